@@ -48,4 +48,10 @@ public record CommonResponse<T>(
     public static <T> CommonResponse<T> internalServerError(BaseErrorCode errorCode) {
         return new CommonResponse<>(errorCode.getCode(), errorCode.getMessage(), null);
     }
+    public static <T> CommonResponse<T> serviceUnavailable(BaseErrorCode errorCode) {
+        return new CommonResponse<>(errorCode.getCode(), errorCode.getMessage(), null);
+    }
+    public static <T> CommonResponse<T> gatewayTimeout(BaseErrorCode errorCode) {
+        return new CommonResponse<>(errorCode.getCode(), errorCode.getMessage(), null);
+    }
 }
@@ -11,4 +11,6 @@ public class StatusCode {
     public static final Integer METHOD_NOT_ALLOWED = 405;
     public static final Integer CONFLICT = 409;
     public static final Integer INTERNAL_SERVER_ERROR = 500;
+    public static final Integer SERVICE_UNAVAILABLE = 503;
+    public static final Integer GATEWAY_TIMEOUT = 504;
 }
@@ -8,9 +8,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 import ssafy.ddada.api.CommonResponse;
 import ssafy.ddada.api.court.request.CourtSearchRequest;
+import ssafy.ddada.api.court.response.CourtAvailabilityResponse;
 import ssafy.ddada.api.court.response.CourtDetailResponse;
 import ssafy.ddada.api.court.response.CourtSimpleResponse;
 import ssafy.ddada.domain.court.service.CourtService;
+import ssafy.ddada.domain.gym.entity.Region;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -35,6 +41,30 @@ public class CourtController {
         return CommonResponse.ok(response);
     }
 
+    @Operation(summary = "예약 가능한 코트 조회", description = "지정한 지역에서 해당 날짜, 시간에 비어있는 코트를 조회하는 API입니다.")
+    @GetMapping("/available")
+    public CommonResponse<List<CourtSimpleResponse>> getAvailableCourts(
+            @RequestParam(required = false) String regions,
+            @RequestParam LocalDate date,
+            @RequestParam LocalTime time
+    ) {
+        log.info("[CourtController] 예약 가능한 코트 조회 >>>> 지역: {}, 날짜: {}, 시간: {}", regions, date, time);
+        List<CourtSimpleResponse> response = courtService.getAvailableCourts(Region.toRegionSet(regions), date, time);
+        return CommonResponse.ok(response);
+    }
+
+    @Operation(summary = "코트 예약 현황 조회", description = "시작일부터 지정한 기간(최대 31일)의 날짜별 예약 시간대 비트맵을 조회하는 API입니다.")
+    @GetMapping("/{court_id}/availability")
+    public CommonResponse<CourtAvailabilityResponse> getCourtAvailability(
+            @PathVariable("court_id") Long courtId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(defaultValue = "14") int days
+    ) {
+        log.info("[CourtController] 코트 예약 현황 조회 >>>> 코트 ID: {}, 시작일: {}, 기간: {}", courtId, from, days);
+        CourtAvailabilityResponse response = courtService.getCourtAvailability(courtId, from, days);
+        return CommonResponse.ok(response);
+    }
+
     @Operation(summary = "코트 세부 조회", description = "코트 세부 정보를 조회하는 api입니다.")
     @GetMapping("/{court_id}")
     public CommonResponse<CourtDetailResponse> getCourtById(@PathVariable("court_id") Long courtId){
@@ -0,0 +1,35 @@
+package ssafy.ddada.api.court.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.ddada.domain.court.model.CourtAvailability;
+
+import java.util.List;
+
+@Schema(description = "코트 예약 현황 응답 DTO")
+public record CourtAvailabilityResponse(
+        @Schema(description = "코트 ID")
+        Long courtId,
+
+        @Schema(description = "날짜별 예약 현황")
+        List<DailyAvailability> days
+) {
+    public record DailyAvailability(
+            @Schema(description = "날짜", example = "2024-10-01")
+            String date,
+
+            @Schema(description = "예약된 시간대 비트맵 (i번째 비트가 1이면 i시 시간대 예약됨)", example = "1536")
+            Integer reservedBitmap
+    ) {
+    }
+
+    public static CourtAvailabilityResponse from(CourtAvailability availability) {
+        return new CourtAvailabilityResponse(
+                availability.courtId(),
+                availability.reservedBitmaps()
+                        .entrySet()
+                        .stream()
+                        .map(entry -> new DailyAvailability(entry.getKey().toString(), entry.getValue()))
+                        .toList()
+        );
+    }
+}
@@ -6,7 +6,6 @@ import ssafy.ddada.domain.court.entity.Court;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "코트 검색 결과 DTO")
@@ -52,7 +51,7 @@ public record CourtDetailResponse(
         );
     }
 
-    public static CourtDetailResponse from(Court court, String GymImage){
+    public static CourtDetailResponse from(Court court, String GymImage, Map<String, List<String>> reservations){
         return new CourtDetailResponse(
                 court.getId(),
                 getCourtName(court),
@@ -61,12 +60,7 @@ public record CourtDetailResponse(
                 court.getGym().getDescription(),
                 GymImage,
                 court.getGym().getUrl(),
-                court.getMatches()
-                        .stream()
-                        .collect(Collectors.groupingBy(
-                                match -> match.getMatchDate().toString(),
-                                Collectors.mapping(match -> match.getMatchTime().toString(), Collectors.toList())
-                        ))
+                reservations
         );
     }
 }
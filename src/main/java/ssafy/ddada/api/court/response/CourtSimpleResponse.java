@@ -6,7 +6,6 @@ import ssafy.ddada.domain.court.entity.Court;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "코트 정보 요약 응답 DTO")
@@ -44,24 +43,14 @@ public record CourtSimpleResponse(
         );
     }
 
-    public static CourtSimpleResponse from(Court court, String presignedUrl) {
+    public static CourtSimpleResponse from(Court court, String presignedUrl, Map<String, List<String>> reservations) {
         return new CourtSimpleResponse(
                 court.getId(),
                 getCourtName(court),
                 court.getGym().getAddress(),
                 presignedUrl,
                 court.getGym().getRegion().getKorValue(),
-                court.getMatches()
-                        .stream()
-                        .collect(
-                                Collectors.groupingBy(
-                                        match -> match.getMatchDate().toString(),
-                                        Collectors.mapping(
-                                                match -> match.getMatchTime().toString(),
-                                                Collectors.toList()
-                                        )
-                                )
-                        )
+                reservations
         );
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ssafy.ddada.api.CommonResponse;
 import ssafy.ddada.api.data.request.RacketRecommendRequest;
 import ssafy.ddada.api.data.response.PlayerAnalysticResponse;
@@ -23,23 +24,23 @@ public class DataController {
 
     @Operation(summary = "선수 경기 데이터 분석 조회", description = "선수의 경기 데이터 분석을 조회하는 API입니다.")
     @GetMapping("/player/{match_id}")
-    public CommonResponse<PlayerMatchAnalyticsResponse> PlayerMatchAnalytics(@PathVariable("match_id") Long matchId) {
+    public Mono<CommonResponse<PlayerMatchAnalyticsResponse>> PlayerMatchAnalytics(@PathVariable("match_id") Long matchId) {
         log.info("[DataController] 선수 경기 데이터 분석 조회 >>>> 경기 ID: {}", matchId);
-        PlayerMatchAnalyticsResponse response = dataService.PlayerMatchAnalytics(matchId);
-        return CommonResponse.ok(response);
+        return dataService.PlayerMatchAnalytics(matchId)
+                .map(response -> CommonResponse.ok(response));
     }
 
     @Operation(summary = "선수 분석 조회", description = "선수의 분석 데이터를 조회하는 API입니다.")
     @GetMapping("/player")
-    public CommonResponse<PlayerAnalysticResponse> PlayerAnalytics() {
+    public Mono<CommonResponse<PlayerAnalysticResponse>> PlayerAnalytics() {
         log.info("[DataController] 선수 분석 조회");
-        PlayerAnalysticResponse response = dataService.PlayerAnalytics();
-        return CommonResponse.ok(response);
+        return dataService.PlayerAnalytics()
+                .map(response -> CommonResponse.ok(response));
     }
 
     @Operation(summary = "추천 라켓 조회", description = "추천 라켓을 조회하는 API입니다")
     @GetMapping("/rackets")
-    public CommonResponse<RacketRecommendResponse> ReccommandRacket(
+    public Mono<CommonResponse<RacketRecommendResponse>> ReccommandRacket(
             @RequestParam(value = "balance") String balance,
             @RequestParam(value = "weight") String weight,
             @RequestParam(value = "shaft") String shaft,
@@ -48,8 +49,8 @@ public class DataController {
     ) {
         log.info("[DataController] 추천 라켓 조회 >>>> 밸런스: {}, 무게: {}, 샤프트: {}, 가격: {}, 라켓 IDs: {}", balance, weight, shaft, price, racketIds);
         RacketRecommendRequest request = new RacketRecommendRequest(balance, weight, shaft, price, racketIds);
-        RacketRecommendResponse response = dataService.RecommendRacket(request.toCommand());
-        return CommonResponse.ok(response);
+        return dataService.RecommendRacket(request.toCommand())
+                .map(response -> CommonResponse.ok(response));
     }
 
 }
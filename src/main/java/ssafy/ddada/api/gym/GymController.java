@@ -11,6 +11,7 @@ import ssafy.ddada.api.gym.request.SettleAccountRequest;
 import ssafy.ddada.api.gym.response.GymDetailResponse;
 import ssafy.ddada.api.gym.response.GymMatchesHistoryResponse;
 import ssafy.ddada.api.gym.response.GymMatchesResponse;
+import ssafy.ddada.api.gym.response.GymStatsResponse;
 import ssafy.ddada.common.exception.gym.GymAdminNotFoundException;
 import ssafy.ddada.common.util.SecurityUtil;
 import ssafy.ddada.domain.gym.service.GymService;
@@ -45,11 +46,24 @@ public class GymController {
         return CommonResponse.ok(response);
     }
 
-    @Operation(summary = "체육관 최근 일주일간 경기 수 조회", description = "체육관의 최근 일주일간 경기 수를 조회하는 API입니다.")
+    @Operation(summary = "체육관 최근 경기 수 조회", description = "체육관의 최근 경기 수를 일자별로 조회하는 API입니다. 기본 조회 기간은 일주일입니다.")
     @GetMapping("/matches/history")
-    public CommonResponse<GymMatchesHistoryResponse> getCurrentGymMatchesHistory(){
-        log.info("[GymController] 체육관의 최근 일주일간 경기 수 조회");
-        GymMatchesHistoryResponse response = gymService.getGymMatchesHistory();
+    public CommonResponse<GymMatchesHistoryResponse> getCurrentGymMatchesHistory(
+            @RequestParam(value = "days", defaultValue = "7") int days
+    ){
+        log.info("[GymController] 체육관의 최근 경기 수 조회 >>>> 기간: {}", days);
+        GymMatchesHistoryResponse response = gymService.getGymMatchesHistory(days);
+        return CommonResponse.ok(response);
+    }
+
+    @Operation(summary = "체육관 경기 통계 조회", description = "기간 내 종료된 경기 수, 수익, 피크 시간대, 요일별 시간대 이용 현황을 조회하는 API입니다.")
+    @GetMapping("/stats")
+    public CommonResponse<GymStatsResponse> getGymStats(
+            @RequestParam(value = "from", required = false) LocalDate fromDate,
+            @RequestParam(value = "to", required = false) LocalDate toDate
+    ){
+        log.info("[GymController] 체육관 경기 통계 조회 >>>> 시작일: {}, 종료일: {}", fromDate, toDate);
+        GymStatsResponse response = gymService.getGymStats(fromDate, toDate);
         return CommonResponse.ok(response);
     }
 
@@ -0,0 +1,99 @@
+package ssafy.ddada.api.gym.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.ddada.domain.gym.entity.GymDailyStats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "체육관 경기 통계 응답 DTO")
+public record GymStatsResponse(
+        @Schema(description = "조회 시작일", example = "2024-10-01")
+        LocalDate fromDate,
+
+        @Schema(description = "조회 종료일", example = "2024-10-07")
+        LocalDate toDate,
+
+        @Schema(description = "기간 내 종료된 경기 수")
+        Integer totalMatches,
+
+        @Schema(description = "기간 내 수익")
+        Integer totalRevenue,
+
+        @Schema(description = "기간 내 가장 경기가 많았던 시각 (경기가 없으면 null)", example = "19")
+        Integer peakHour,
+
+        @Schema(description = "일자별 통계")
+        List<DailyStats> daily,
+
+        @Schema(description = "요일별 시간대 이용 현황 (요일마다 0시부터 23시까지의 경기 수)")
+        Map<DayOfWeek, List<Integer>> utilization
+) {
+    public record DailyStats(
+            @Schema(description = "날짜", example = "2024-10-01")
+            LocalDate date,
+
+            @Schema(description = "종료된 경기 수")
+            Integer matches,
+
+            @Schema(description = "수익")
+            Integer revenue,
+
+            @Schema(description = "가장 경기가 많았던 시각 (경기가 없으면 null)", example = "19")
+            Integer peakHour
+    ) {
+    }
+
+    public static GymStatsResponse of(LocalDate fromDate, LocalDate toDate, List<GymDailyStats> stats) {
+        Map<LocalDate, GymDailyStats> statsByDate = new HashMap<>();
+        stats.forEach(stat -> statsByDate.put(stat.getStatDate(), stat));
+
+        int[] totalHourly = new int[GymDailyStats.HOURS_PER_DAY];
+        Map<DayOfWeek, int[]> weekdayHourly = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            weekdayHourly.put(dayOfWeek, new int[GymDailyStats.HOURS_PER_DAY]);
+        }
+
+        List<DailyStats> daily = new ArrayList<>();
+        int totalMatches = 0;
+        int totalRevenue = 0;
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            GymDailyStats stat = statsByDate.get(date);
+            if (stat == null) {
+                daily.add(new DailyStats(date, 0, 0, null));
+                continue;
+            }
+            int[] hourly = new int[GymDailyStats.HOURS_PER_DAY];
+            int[] weekday = weekdayHourly.get(date.getDayOfWeek());
+            for (int hour = 0; hour < GymDailyStats.HOURS_PER_DAY; hour++) {
+                hourly[hour] = stat.getMatchesAt(hour);
+                totalHourly[hour] += hourly[hour];
+                weekday[hour] += hourly[hour];
+            }
+            daily.add(new DailyStats(date, stat.getMatchesFinished(), stat.getRevenue(), peakHour(hourly)));
+            totalMatches += stat.getMatchesFinished();
+            totalRevenue += stat.getRevenue();
+        }
+
+        Map<DayOfWeek, List<Integer>> utilization = new EnumMap<>(DayOfWeek.class);
+        weekdayHourly.forEach((dayOfWeek, hourly) -> utilization.put(dayOfWeek, Arrays.stream(hourly).boxed().toList()));
+
+        return new GymStatsResponse(fromDate, toDate, totalMatches, totalRevenue, peakHour(totalHourly), daily, utilization);
+    }
+
+    private static Integer peakHour(int[] hourly) {
+        Integer peakHour = null;
+        for (int hour = 0; hour < hourly.length; hour++) {
+            if (hourly[hour] > 0 && (peakHour == null || hourly[hour] > hourly[peakHour])) {
+                peakHour = hour;
+            }
+        }
+        return peakHour;
+    }
+}
@@ -12,6 +12,7 @@ import reactor.core.publisher.Mono;
 import ssafy.ddada.api.CommonResponse;
 import ssafy.ddada.api.match.request.CheckPlayerBookedRequest;
 import ssafy.ddada.api.match.request.MatchCreateRequest;
+import ssafy.ddada.api.match.request.MatchCursorSearchRequest;
 import ssafy.ddada.api.match.request.MatchSearchRequest;
 import ssafy.ddada.api.match.response.*;
 import ssafy.ddada.common.exception.data.DataNotFoundException;
@@ -49,6 +50,26 @@ public class MatchController {
         return CommonResponse.ok(response);
     }
 
+    @Operation(summary = "경기 리스트 커서 조회", description = """
+         키워드 및 경기 상태 기반으로 경기 리스트를 커서(keyset) 방식으로 조회하는 api입니다.
+         전체 개수를 세지 않으므로 스크롤 깊이와 관계없이 일정한 비용으로 다음 페이지를 조회합니다.
+     """)
+    @GetMapping("/cursor")
+    public CommonResponse<MatchCursorResponse> getMatchesByKeywordWithCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "NORMAL") String rankType,
+            @RequestParam(required = false) String matchTypes,
+            @RequestParam(required = false) String statuses,
+            @RequestParam(required = false) String regions,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size
+    ) {
+        log.info("[MatchController] 경기 검색 결과 커서 조회 >>>> 검색어: {}, 랭크 타입: {}, 경기 타입: {}, 경기 상태: {}, 커서: {}, 페이지 크기: {}", keyword, rankType, matchTypes, statuses, cursor, size);
+        MatchCursorSearchRequest request = new MatchCursorSearchRequest(keyword, rankType, matchTypes, statuses, regions, cursor, size);
+        MatchCursorResponse response = matchService.getFilteredMatchesByCursor(request.toCommand());
+        return CommonResponse.ok(response);
+    }
+
     @Operation(summary = "경기 세부 조회", description = "경기 세부 정보를 조회하는 api입니다.")
     @GetMapping("/{match_id}")
     public CommonResponse<MatchDetailResponse> getMatchById(@PathVariable("match_id") Long matchId) {
@@ -0,0 +1,47 @@
+package ssafy.ddada.api.match.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.ddada.domain.gym.entity.Region;
+import ssafy.ddada.domain.match.command.MatchCursorSearchCommand;
+import ssafy.ddada.domain.match.entity.MatchStatus;
+import ssafy.ddada.domain.match.entity.MatchType;
+import ssafy.ddada.domain.match.entity.RankType;
+import ssafy.ddada.domain.match.model.MatchCursor;
+
+import static ssafy.ddada.common.util.ParameterUtil.blankToNull;
+
+@Schema(description = "경기 커서 기반 검색 요청 DTO")
+public record MatchCursorSearchRequest(
+        @Schema(description = "검색 키워드", example = "문화체육관")
+        String keyword,
+
+        @Schema(description = "랭크 타입", example = "친선")
+        String rankType,
+
+        @Schema(description = "경기 타입", example = "남성복식,혼합복식")
+        String matchTypes,
+
+        @Schema(description = "경기 상태", example = "CREATED,RESERVED,PLAYING")
+        String statuses,
+
+        @Schema(description = "경기 지역", example = "서울,경기,부산")
+        String regions,
+
+        @Schema(description = "이전 응답의 다음 페이지 커서 (첫 페이지는 생략)")
+        String cursor,
+
+        @Schema(description = "페이지 크기")
+        int size
+) {
+    public MatchCursorSearchCommand toCommand(){
+        return new MatchCursorSearchCommand(
+                blankToNull(keyword),
+                RankType.toRankType(rankType),
+                MatchType.toMatchTypeSet(matchTypes),
+                MatchStatus.toMatchStatusSet(statuses),
+                Region.toRegionSet(regions),
+                MatchCursor.decode(cursor),
+                size
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package ssafy.ddada.api.match.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "경기 커서 기반 목록 응답 DTO")
+public record MatchCursorResponse(
+        @Schema(description = "경기 목록")
+        List<MatchSimpleResponse> matches,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+    public static MatchCursorResponse of(List<MatchSimpleResponse> matches, String nextCursor) {
+        return new MatchCursorResponse(matches, nextCursor, nextCursor != null);
+    }
+}
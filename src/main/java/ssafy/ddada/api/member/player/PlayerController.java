@@ -114,6 +114,19 @@ public class PlayerController {
         return CommonResponse.ok(response);
     }
 
+    @PreAuthorize("hasRole('ROLE_PLAYER')")
+    @Operation(summary = "플레이어의 경기 피드 조회", description = "플레이어의 경기들을 최신순 커서 기반으로 조회하는 API입니다.")
+    @GetMapping("/matches/feed")
+    public CommonResponse<PlayerMatchCursorResponse> getPlayerMatchFeed(
+            @RequestParam(value = "finished", defaultValue = "false") boolean finished,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        log.info("[PlayerController] 플레이어의 경기 피드 조회 >>>> 완료 경기만: {}, 커서: {}, 크기: {}", finished, cursor, size);
+        PlayerMatchCursorResponse response = playerService.getPlayerMatchFeed(finished, cursor, size);
+        return CommonResponse.ok(response);
+    }
+
     @PreAuthorize("hasRole('ROLE_PLAYER')")
     @Operation(summary = "플레이어의 ID 조회", description = "나의 id를 조회하는 API입니다.")
     @GetMapping("/id")
@@ -132,10 +145,13 @@ public class PlayerController {
     }
 
     @PreAuthorize("hasRole('ROLE_PLAYER')")
-    @Operation(summary = "플레이어들의 랭킹 조회", description = "플레이어들의 랭킹을 조회하는 API입니다.")
+    @Operation(summary = "플레이어들의 랭킹 조회", description = "플레이어들의 랭킹을 페이지 단위로 조회하고, 현재 플레이어 주변의 랭킹을 함께 반환하는 API입니다.")
     @GetMapping("/rankings")
-    public CommonResponse<PlayerRankingResponse> getPlayersRanking() {
-        PlayerRankingResponse response = playerService.getPlayersRanking();
+    public CommonResponse<PlayerRankingResponse> getPlayersRanking(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        PlayerRankingResponse response = playerService.getPlayersRanking(page, size);
         return CommonResponse.ok(response);
     }
 
@@ -0,0 +1,21 @@
+package ssafy.ddada.api.member.player.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "선수 경기 커서 기반 목록 응답 DTO")
+public record PlayerMatchCursorResponse(
+        @Schema(description = "경기 목록")
+        List<PlayerMatchResponse> matches,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+    public static PlayerMatchCursorResponse of(List<PlayerMatchResponse> matches, String nextCursor) {
+        return new PlayerMatchCursorResponse(matches, nextCursor, nextCursor != null);
+    }
+}
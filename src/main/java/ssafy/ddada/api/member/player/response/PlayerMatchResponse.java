@@ -1,7 +1,7 @@
 package ssafy.ddada.api.member.player.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import ssafy.ddada.domain.match.entity.Match;
+import ssafy.ddada.domain.match.model.PlayerMatchRow;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -42,19 +42,19 @@ public record PlayerMatchResponse(
         Integer myRatingChange
 
 ) {
-    public static PlayerMatchResponse from(Match match, Integer avgRating, String myTeamAndNumber, Integer myRatingChange) {
+    public static PlayerMatchResponse from(PlayerMatchRow row) {
         return new PlayerMatchResponse(
-                match.getId(),
-                match.getCourt().getGym().getName(),
-                match.getCourt().getGym().getAddress(),
-                match.getMatchDate(),
-                match.getMatchTime(),
-                match.getMatchType().name(),
-                match.getRankType().name(),
-                avgRating,
-                match.getStatus().name(),
-                myTeamAndNumber,
-                myRatingChange
+                row.matchId(),
+                row.gymName(),
+                row.gymAddress(),
+                row.matchDate(),
+                row.matchTime(),
+                row.matchType().name(),
+                row.rankType().name(),
+                row.averageRating(),
+                row.status().name(),
+                row.teamAndNumber(),
+                row.ratingChange()
         );
     }
 }
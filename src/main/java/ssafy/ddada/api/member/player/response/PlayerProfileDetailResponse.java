@@ -1,8 +1,11 @@
 package ssafy.ddada.api.member.player.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import ssafy.ddada.domain.match.entity.PlayerMatchRecord;
 import ssafy.ddada.domain.member.common.Gender;
 
+import java.util.List;
+
 @Schema(description = "선수 프로필 응답 DTO")
 public record PlayerProfileDetailResponse(
         @Schema(description = "프로필 이미지 경로", example = "https://my-bucket.s3.amazonaws.com/sample-image.jpg\n")
@@ -33,9 +36,27 @@ public record PlayerProfileDetailResponse(
         Integer winCount,
 
         @Schema(description = "패배 횟수", example = "5")
-        Integer loseCount
+        Integer loseCount,
+
+        @Schema(description = "경기 유형별 전적")
+        List<MatchTypeRecord> matchTypeRecords
 ) {
-    public static PlayerProfileDetailResponse of(String profileImageBase64, String nickname, Gender gender, Integer rating, Integer GameCount, String phoneNumber, String email, String description, Integer winCount, Integer loseCount) {
+    public record MatchTypeRecord(
+            @Schema(description = "경기 유형", example = "MALE_DOUBLE")
+            String matchType,
+
+            @Schema(description = "승리 횟수", example = "3")
+            Integer winCount,
+
+            @Schema(description = "패배 횟수", example = "1")
+            Integer loseCount
+    ) {
+        public static MatchTypeRecord from(PlayerMatchRecord record) {
+            return new MatchTypeRecord(record.getMatchType().name(), record.getWinCount(), record.getLoseCount());
+        }
+    }
+
+    public static PlayerProfileDetailResponse of(String profileImageBase64, String nickname, Gender gender, Integer rating, Integer GameCount, String phoneNumber, String email, String description, Integer winCount, Integer loseCount, List<PlayerMatchRecord> matchTypeRecords) {
         return new PlayerProfileDetailResponse(
                 profileImageBase64,
                 nickname,
@@ -46,7 +67,10 @@ public record PlayerProfileDetailResponse(
                 email,
                 description,
                 winCount,
-                loseCount
+                loseCount,
+                matchTypeRecords.stream()
+                        .map(MatchTypeRecord::from)
+                        .toList()
         );
     }
 }
@@ -6,8 +6,20 @@ import java.util.List;
 
 @Schema(description = "선수 랭킹 응답 DTO")
 public record PlayerRankingResponse(
-        @Schema(description = "전체 랭킹")
-        List<PlayerRanking> rankings
+        @Schema(description = "요청한 페이지의 랭킹")
+        List<PlayerRanking> rankings,
+
+        @Schema(description = "현재 선수의 랭킹 (랭킹에 없으면 ranking = -1)")
+        PlayerRanking myRanking,
+
+        @Schema(description = "현재 선수 주변의 랭킹")
+        List<PlayerRanking> nearbyRankings,
+
+        @Schema(description = "전체 랭킹 인원", example = "1200")
+        Long totalCount,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        Boolean hasNext
 ) {
     public record PlayerRanking(
             @Schema(description = "선수 랭킹", example = "1")
@@ -20,15 +32,24 @@ public record PlayerRankingResponse(
             Integer rating,
 
             @Schema(description = "플레이어 경기 수", example = "2")
-            Integer playCount
+            Integer playCount,
+
+            @Schema(description = "선수 프로필 이미지", example = "https://example.com/image.jpg")
+            String image
     ) {
-        public static PlayerRanking of(Integer ranking, String nickname, Integer rating, Integer playCount) {
-            return new PlayerRanking(ranking, nickname, rating, playCount);
+        public static PlayerRanking of(Integer ranking, String nickname, Integer rating, Integer playCount, String image) {
+            return new PlayerRanking(ranking, nickname, rating, playCount, image);
         }
     }
 
-    public static PlayerRankingResponse of (List<PlayerRanking> rankings) {
-        return new PlayerRankingResponse(rankings);
+    public static PlayerRankingResponse of(
+            List<PlayerRanking> rankings,
+            PlayerRanking myRanking,
+            List<PlayerRanking> nearbyRankings,
+            Long totalCount,
+            Boolean hasNext
+    ) {
+        return new PlayerRankingResponse(rankings, myRanking, nearbyRankings, totalCount, hasNext);
     }
 
 }
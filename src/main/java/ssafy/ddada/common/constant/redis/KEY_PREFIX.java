@@ -7,4 +7,6 @@ public final class KEY_PREFIX {
     public static final String ACCESS_TOKEN="access_token:";
     public static final String REFRESH_TOKEN="refresh_token:";
     public static final String BLACKLIST="blacklist:";
+    public static final String BLACKLIST_INDEX="blacklist_index";
+    public static final String BLACKLIST_CHANNEL="blacklist_channel";
 }
@@ -0,0 +1,10 @@
+package ssafy.ddada.common.exception.data;
+
+import ssafy.ddada.common.exception.BaseException;
+import ssafy.ddada.common.exception.errorcode.DataErrorCode;
+
+public class DataServiceTimeoutException extends BaseException {
+    public DataServiceTimeoutException() {
+        super(DataErrorCode.DATA_SERVICE_TIMEOUT);
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.ddada.common.exception.data;
+
+import ssafy.ddada.common.exception.BaseException;
+import ssafy.ddada.common.exception.errorcode.DataErrorCode;
+
+public class DataServiceUnavailableException extends BaseException {
+    public DataServiceUnavailableException() {
+        super(DataErrorCode.DATA_SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.ddada.common.exception.data;
+
+import ssafy.ddada.common.exception.BaseException;
+import ssafy.ddada.common.exception.errorcode.DataErrorCode;
+
+public class MatchAnalysisPendingException extends BaseException {
+    public MatchAnalysisPendingException() {
+        super(DataErrorCode.MATCH_ANALYSIS_PENDING);
+    }
+}
@@ -3,12 +3,18 @@ package ssafy.ddada.common.exception.errorcode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import static ssafy.ddada.api.StatusCode.GATEWAY_TIMEOUT;
 import static ssafy.ddada.api.StatusCode.NOT_FOUND;
+import static ssafy.ddada.api.StatusCode.SERVICE_UNAVAILABLE;
 
 @Getter
 @AllArgsConstructor
 public enum DataErrorCode implements BaseErrorCode { // BaseErrorCode를 상속
-    DATA_NOT_FOUND(NOT_FOUND, "DATA_404_1", "데이터를 찾을 수 없습니다.");
+    DATA_NOT_FOUND(NOT_FOUND, "DATA_404_1", "데이터를 찾을 수 없습니다."),
+    DATA_SERVICE_BUSY(SERVICE_UNAVAILABLE, "DATA_503_1", "분석 요청이 많아 잠시 후 다시 시도해주세요."),
+    DATA_SERVICE_UNAVAILABLE(SERVICE_UNAVAILABLE, "DATA_503_2", "분석 서버가 일시적으로 응답하지 않습니다."),
+    MATCH_ANALYSIS_PENDING(SERVICE_UNAVAILABLE, "DATA_503_3", "경기 분석이 아직 완료되지 않았습니다. 잠시 후 다시 시도해주세요."),
+    DATA_SERVICE_TIMEOUT(GATEWAY_TIMEOUT, "DATA_504_1", "분석 서버 응답 시간이 초과되었습니다.");
 
     private final Integer httpStatus; // HTTP 상태 코드
     private final String code;          // 에러 코드
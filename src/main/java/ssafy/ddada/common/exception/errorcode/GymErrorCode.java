@@ -13,7 +13,9 @@ public enum GymErrorCode implements BaseErrorCode{
 
     GYM_NOT_FOUND(NOT_FOUND, "GYM_404_1", "존재하지 않는 체육관입니다."),
     GYM_ADMIN_NOT_FOUND(NOT_FOUND, "GYM_ADMIN_404_1", "존재하지 않는 체육관 관리자입니다."),
-    COURT_NOT_FOUND(NOT_FOUND, "COURT_404_1", "존재하지 않는 코트입니다.")
+    COURT_NOT_FOUND(NOT_FOUND, "COURT_404_1", "존재하지 않는 코트입니다."),
+
+    COURT_ALREADY_BOOKED(CONFLICT, "COURT_409_1", "해당 시간에 이미 예약된 코트입니다.")
     ;
 
     private final Integer httpStatus;
@@ -15,12 +15,14 @@ public enum MatchErrorCode implements BaseErrorCode{
     INVALID_TEAM_NUMBER(BAD_REQUEST, "TEAM_400_1", "잘못된 팀 번호입니다."),
     TEAM_FULL(BAD_REQUEST, "TEAM_400_2", "잘못된 선수 번호입니다."),
     INVALID_SET_NUMBER(BAD_REQUEST, "SET_400_1", "잘못된 세트 번호입니다."),
+    INVALID_MATCH_CURSOR(BAD_REQUEST, "MATCH_400_4", "잘못된 페이지 커서입니다."),
 
     MATCH_NOT_FOUND(NOT_FOUND, "MATCH_404_1", "존재하지 않는 경기입니다."),
     TEAM_NOT_FOUND(NOT_FOUND, "TEAM_404_1", "존재하지 않는 팀입니다."),
     TEAM_PLAYER_NOT_FOUND(NOT_FOUND, "TEAM_404_2", "팀에 선수가 존재하지 않습니다."),
 
     MANAGER_ALREADY_EXIST(CONFLICT, "MATCH_409_1", "해당 경기에 매니저가 이미 존재합니다."),
+    MATCH_CONCURRENT_UPDATE(CONFLICT, "MATCH_409_2", "요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final Integer httpStatus;
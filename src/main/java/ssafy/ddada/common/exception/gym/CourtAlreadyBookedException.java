@@ -0,0 +1,12 @@
+package ssafy.ddada.common.exception.gym;
+
+import ssafy.ddada.common.exception.BaseException;
+import ssafy.ddada.common.exception.errorcode.GymErrorCode;
+
+public class CourtAlreadyBookedException extends BaseException {
+
+    public CourtAlreadyBookedException() {
+        super(GymErrorCode.COURT_ALREADY_BOOKED);
+    }
+
+}
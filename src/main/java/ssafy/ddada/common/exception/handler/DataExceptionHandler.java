@@ -8,6 +8,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ssafy.ddada.api.CommonResponse;
 import ssafy.ddada.common.exception.data.DataNotFoundException;
+import ssafy.ddada.common.exception.data.DataServiceBusyException;
+import ssafy.ddada.common.exception.data.DataServiceTimeoutException;
+import ssafy.ddada.common.exception.data.DataServiceUnavailableException;
 import ssafy.ddada.common.exception.s3.ProfileNotFoundInS3Exception;
 
 @Slf4j
@@ -19,4 +22,25 @@ public class DataExceptionHandler {
         log.error("PDataNotFoundException Error", e);
         return CommonResponse.notFound(e.getErrorCode());
     }
+
+    @ExceptionHandler(DataServiceBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public CommonResponse<?> handleDataServiceBusyException(DataServiceBusyException e) {
+        log.warn("DataServiceBusyException occurs: {}", e.getErrorCode().getMessage());
+        return CommonResponse.serviceUnavailable(e.getErrorCode());
+    }
+
+    @ExceptionHandler(DataServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public CommonResponse<?> handleDataServiceUnavailableException(DataServiceUnavailableException e) {
+        log.warn("DataServiceUnavailableException occurs: {}", e.getErrorCode().getMessage());
+        return CommonResponse.serviceUnavailable(e.getErrorCode());
+    }
+
+    @ExceptionHandler(DataServiceTimeoutException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public CommonResponse<?> handleDataServiceTimeoutException(DataServiceTimeoutException e) {
+        log.warn("DataServiceTimeoutException occurs: {}", e.getErrorCode().getMessage());
+        return CommonResponse.gatewayTimeout(e.getErrorCode());
+    }
 }
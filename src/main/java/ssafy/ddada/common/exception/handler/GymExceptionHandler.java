@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ssafy.ddada.api.CommonResponse;
+import ssafy.ddada.common.exception.gym.CourtAlreadyBookedException;
 import ssafy.ddada.common.exception.gym.CourtNotFoundException;
 import ssafy.ddada.common.exception.gym.GymAdminNotFoundException;
 import ssafy.ddada.common.exception.gym.GymNotFoundException;
@@ -43,4 +44,11 @@ public class GymExceptionHandler {
         return CommonResponse.notFound(e.getErrorCode());
     }
 
+    @ExceptionHandler(CourtAlreadyBookedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public CommonResponse<?> handleCourtAlreadyBookedException(CourtAlreadyBookedException e) {
+        log.error("CourtAlreadyBookedException occurs", e);
+        return CommonResponse.conflict(e.getErrorCode());
+    }
+
 }
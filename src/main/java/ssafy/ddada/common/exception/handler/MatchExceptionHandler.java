@@ -60,6 +60,13 @@ public class MatchExceptionHandler {
         return CommonResponse.badRequest(e.getErrorCode());
     }
 
+    @ExceptionHandler(InvalidMatchCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CommonResponse<?> handleInvalidMatchCursorException(InvalidMatchCursorException e) {
+        log.error("InvalidMatchCursorException occurs", e);
+        return CommonResponse.badRequest(e.getErrorCode());
+    }
+
     @ExceptionHandler(MatchNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public CommonResponse<?> handleMatchNotFoundException(MatchNotFoundException e) {
@@ -87,4 +94,11 @@ public class MatchExceptionHandler {
         log.error("ManagerAlreadyExistException occurs", e);
         return CommonResponse.conflict(e.getErrorCode());
     }
+
+    @ExceptionHandler(MatchConcurrentUpdateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public CommonResponse<?> handleMatchConcurrentUpdateException(MatchConcurrentUpdateException e) {
+        log.error("MatchConcurrentUpdateException occurs", e);
+        return CommonResponse.conflict(e.getErrorCode());
+    }
 }
@@ -0,0 +1,10 @@
+package ssafy.ddada.common.exception.match;
+
+import ssafy.ddada.common.exception.BaseException;
+import ssafy.ddada.common.exception.errorcode.MatchErrorCode;
+
+public class InvalidMatchCursorException extends BaseException {
+    public InvalidMatchCursorException() {
+        super(MatchErrorCode.INVALID_MATCH_CURSOR);
+    }
+}
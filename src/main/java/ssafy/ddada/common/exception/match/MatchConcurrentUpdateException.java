@@ -0,0 +1,10 @@
+package ssafy.ddada.common.exception.match;
+
+import ssafy.ddada.common.exception.BaseException;
+import ssafy.ddada.common.exception.errorcode.MatchErrorCode;
+
+public class MatchConcurrentUpdateException extends BaseException {
+    public MatchConcurrentUpdateException() {
+        super(MatchErrorCode.MATCH_CONCURRENT_UPDATE);
+    }
+}
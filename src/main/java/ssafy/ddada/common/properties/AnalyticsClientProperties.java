@@ -0,0 +1,53 @@
+package ssafy.ddada.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "webclient.analytics")
+public record AnalyticsClientProperties (
+        Integer maxConnections,
+        Integer pendingAcquireMaxCount,
+        Duration pendingAcquireTimeout,
+        Duration connectTimeout,
+        Duration responseTimeout,
+        Duration maxIdleTime,
+        Integer failureThreshold,
+        Duration openDuration
+) {
+    private static final int DEFAULT_MAX_CONNECTIONS = 50;
+    private static final int DEFAULT_PENDING_ACQUIRE_MAX_COUNT = 200;
+    private static final Duration DEFAULT_PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(30);
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    public AnalyticsClientProperties {
+        if (maxConnections == null || maxConnections <= 0) {
+            maxConnections = DEFAULT_MAX_CONNECTIONS;
+        }
+        if (pendingAcquireMaxCount == null || pendingAcquireMaxCount <= 0) {
+            pendingAcquireMaxCount = DEFAULT_PENDING_ACQUIRE_MAX_COUNT;
+        }
+        if (pendingAcquireTimeout == null) {
+            pendingAcquireTimeout = DEFAULT_PENDING_ACQUIRE_TIMEOUT;
+        }
+        if (connectTimeout == null) {
+            connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        }
+        if (responseTimeout == null) {
+            responseTimeout = DEFAULT_RESPONSE_TIMEOUT;
+        }
+        if (maxIdleTime == null) {
+            maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+        }
+        if (failureThreshold == null || failureThreshold <= 0) {
+            failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+        }
+        if (openDuration == null) {
+            openDuration = DEFAULT_OPEN_DURATION;
+        }
+    }
+}
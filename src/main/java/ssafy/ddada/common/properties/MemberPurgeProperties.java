@@ -0,0 +1,16 @@
+package ssafy.ddada.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "scheduler.member-purge")
+public record MemberPurgeProperties (
+        Integer batchSize
+) {
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    public MemberPurgeProperties {
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+    }
+}
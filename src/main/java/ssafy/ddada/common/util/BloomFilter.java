@@ -0,0 +1,57 @@
+package ssafy.ddada.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * 문자열용 Bloom filter. 포함 여부가 false 이면 확실히 없고, true 이면 실제 저장소로 한 번 더 확인해야 합니다.
+ */
+public class BloomFilter {
+
+    private final BitSet bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(expectedInsertions, 1);
+        this.bitSize = (int) Math.max(64, Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+        this.bits = new BitSet(bitSize);
+    }
+
+    public synchronized void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            bits.set(indexOf(h1 + i * h2));
+        }
+    }
+
+    public synchronized boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!bits.get(indexOf(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    // FNV-1a 64bit
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+}
@@ -0,0 +1,66 @@
+package ssafy.ddada.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 항목마다 만료 시각이 다른 로컬 캐시. 최대 크기를 넘거나 만료 시각이 지난 항목은 Caffeine이 제거합니다.
+ */
+public class ExpiringCache<K, V> {
+
+    private final Cache<K, Entry<V>> cache;
+
+    public ExpiringCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry<K, V>())
+                .build();
+    }
+
+    public Optional<V> get(K key) {
+        Entry<V> entry = cache.getIfPresent(key);
+        return entry == null ? Optional.empty() : Optional.of(entry.value());
+    }
+
+    public void put(K key, V value, Instant expiresAt) {
+        cache.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+        long remainingNanos() {
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+    }
+
+    private static class EntryExpiry<K, V> implements Expiry<K, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Entry<V> entry, long currentTime) {
+            return entry.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return entry.remainingNanos();
+        }
+
+        // 조회는 만료 시각을 연장하지 않음
+        @Override
+        public long expireAfterRead(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package ssafy.ddada.common.util;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,6 +22,7 @@ import ssafy.ddada.domain.redis.RefreshTokenRedisRepository;
 import javax.crypto.SecretKey;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 import static ssafy.ddada.common.constant.redis.KEY_PREFIX.ACCESS_TOKEN;
 import static ssafy.ddada.common.constant.redis.KEY_PREFIX.REFRESH_TOKEN;
@@ -30,24 +32,54 @@ import static ssafy.ddada.common.constant.redis.KEY_PREFIX.REFRESH_TOKEN;
 @Slf4j
 public class JwtProcessor {
 
+    private static final int MAX_CACHED_CLAIMS = 10_000;
+
     private final JwtProperties jwtProperties;
     private final BlacklistTokenRedisRepository blacklistTokenRedisRepository;
     private final RefreshTokenRedisRepository refreshTokenRedisRepository;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+
+    // 서명 검증이 끝난 토큰의 claims (토큰 만료 시각까지 유효)
+    private final ExpiringCache<String, Jws<Claims>> claimsCache = new ExpiringCache<>(MAX_CACHED_CLAIMS);
+    private SecretKey secretKey;
+    private io.jsonwebtoken.JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        secretKey = Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
 
     public Key getSecretKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes());
+        return secretKey;
     }
 
     public Jws<Claims> getClaim(String token) {
         log.debug("token : {}", token);
         if (isTokenExpired(token)) {
+            claimsCache.invalidate(token);
             throw new TokenExpiredException();
         }
+
+        // 만료된 항목은 캐시에서 조회되지 않으므로 파서가 만료 여부를 판단
+        Optional<Jws<Claims>> cached = claimsCache.get(token);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Jws<Claims> claims = parse(token);
+        Date expiration = claims.getPayload().getExpiration();
+        if (expiration != null) {
+            claimsCache.put(token, claims, expiration.toInstant());
+        }
+        return claims;
+    }
+
+    private Jws<Claims> parse(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) getSecretKey())
-                    .build()
-                    .parseSignedClaims(token);
+            return jwtParser.parseSignedClaims(token);
         } catch (SignatureException e) {
             throw new InvalidSignatureTokenException();
         } catch (ExpiredJwtException e) {
@@ -81,7 +113,9 @@ public class JwtProcessor {
             log.info("리프레시 토큰을 찾지 못해 토큰 만료 처리 건너뜀: {}", accessToken);
             return;
         }
-        blacklistTokenRedisRepository.save(refreshToken, getRemainingTime(refreshToken));
+        blacklistTokenRedisRepository.save(refreshToken, Math.max(1, getRemainingTime(refreshToken) / 1000));
+        tokenBlacklistFilter.add(refreshToken);
+        claimsCache.invalidate(refreshToken);
         refreshTokenRedisRepository.delete(refreshToken);
         log.info("Token added to blacklist: {}", refreshToken);
     }
@@ -93,12 +127,12 @@ public class JwtProcessor {
         return Math.max(0, expiration.getTime() - now.getTime());
     }
 
+    // 블랙리스트 여부. 로컬 필터에 없으면 Redis를 조회하지 않음 (만료 시각은 파서와 claims 캐시에서 확인)
     public boolean isTokenExpired(String token) {
-        Boolean result = blacklistTokenRedisRepository.hasKey(token);
-        if (result != null) {
-            return result;
+        if (!tokenBlacklistFilter.mightBeBlacklisted(token)) {
+            return false;
         }
-        return getClaim(token).getPayload().getExpiration().before(new Date());
+        return Boolean.TRUE.equals(blacklistTokenRedisRepository.hasKey(token));
     }
 
     public String generateAccessToken(Member member) {
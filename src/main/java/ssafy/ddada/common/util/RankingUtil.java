@@ -2,46 +2,108 @@ package ssafy.ddada.common.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 import ssafy.ddada.domain.member.player.entity.Player;
+import ssafy.ddada.domain.member.player.model.PlayerRatingEntry;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * 선수 레이팅 랭킹(ZSet)을 관리합니다. 멤버는 닉네임 변경에 영향받지 않도록 선수 ID로 저장합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RankingUtil {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String PLAYER_RANKING_KEY = "player_ranking";
+    private static final String PLAYER_RANKING_KEY = "player_ranking:id";
 
-    // 플레이어의 rating을 redis에 저장 (ZSet 사용)
+    // 플레이어의 rating을 redis에 저장 (ZSet 사용, 이미 있으면 점수만 덮어씀)
     public void savePlayerToRanking(Player player) {
-        redisTemplate.opsForZSet().add(PLAYER_RANKING_KEY, player.getNickname(), player.getRating());
+        redisTemplate.opsForZSet().add(PLAYER_RANKING_KEY, toMember(player), player.getRating());
     }
 
     // 플레이어 랭킹에서 제거
     public void removePlayerFromRanking(Player player) {
-        redisTemplate.opsForZSet().remove(PLAYER_RANKING_KEY, player.getNickname());
+        redisTemplate.opsForZSet().remove(PLAYER_RANKING_KEY, toMember(player));
     }
 
-    public void updatePlayerRating(Player player) {
-        removePlayerFromRanking(player);
-        savePlayerToRanking(player);
+    // 한 경기에서 바뀐 선수들의 rating을 ZADD 한 번으로 반영 (중간에 랭킹에서 빠지는 순간이 없음)
+    public void updatePlayerRatings(Collection<Player> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        saveRatings(players.stream()
+                .map(player -> new PlayerRatingEntry(player.getId(), player.getRating()))
+                .toList());
+    }
+
+    // 여러 선수의 rating을 multi-member ZADD 한 번으로 저장
+    public void saveRatings(Collection<PlayerRatingEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = entries.stream()
+                .map(entry -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(
+                        String.valueOf(entry.playerId()), entry.rating().doubleValue()))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(PLAYER_RANKING_KEY, tuples);
+    }
+
+    // ZMSCORE로 여러 선수의 현재 점수를 한 번에 조회 (랭킹에 없으면 null)
+    public List<Double> getScores(List<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+        Object[] members = playerIds.stream().map(String::valueOf).toArray();
+        List<Double> scores = redisTemplate.opsForZSet().score(PLAYER_RANKING_KEY, members);
+        return scores == null ? List.of() : scores;
+    }
+
+    // 0-based 순위 구간 [start, end]의 선수 ID 가져오기
+    public Set<String> getMembersInRange(long start, long end) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(PLAYER_RANKING_KEY, start, end);
+        return members == null ? Set.of() : members;
+    }
+
+    public void removeMembers(Collection<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(PLAYER_RANKING_KEY, members.toArray());
     }
 
     // 특정 플레이어의 현재 랭킹을 가져오기
     public Long getPlayerRank(Player player) {
-        Long rank = redisTemplate.opsForZSet().reverseRank(PLAYER_RANKING_KEY, player.getNickname());
+        Long rank = redisTemplate.opsForZSet().reverseRank(PLAYER_RANKING_KEY, toMember(player));
         return rank == null ? -1 : rank + 1; // 0-based index이므로 1을 더함
     }
 
-    public Set<ZSetOperations.TypedTuple<String>> getAllPlayers() {
-        // ZSet에서 nickname과 rating을 함께 가져오기
-        return redisTemplate.opsForZSet().reverseRangeWithScores(PLAYER_RANKING_KEY, 0, -1);
+    // 0-based 순위 구간 [start, end]의 선수 ID와 rating을 함께 가져오기
+    public Set<ZSetOperations.TypedTuple<String>> getPlayersInRange(long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> players =
+                redisTemplate.opsForZSet().reverseRangeWithScores(PLAYER_RANKING_KEY, start, end);
+        return players == null ? Set.of() : players;
     }
 
-}
+    public long getRankingSize() {
+        Long size = redisTemplate.opsForZSet().zCard(PLAYER_RANKING_KEY);
+        return size == null ? 0 : size;
+    }
+
+    public static Long toPlayerId(String member) {
+        return Long.valueOf(member);
+    }
 
+    private static String toMember(Player player) {
+        return String.valueOf(player.getId());
+    }
+
+}
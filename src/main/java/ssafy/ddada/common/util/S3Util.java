@@ -1,7 +1,12 @@
 package ssafy.ddada.common.util;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -11,6 +16,7 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import ssafy.ddada.common.constant.global.S3_IMAGE;
 import ssafy.ddada.common.exception.s3.PresignedUrlGenerationFailException;
 import ssafy.ddada.common.exception.s3.S3UploadFailedException;
 import ssafy.ddada.common.exception.s3.ExtensionNotAllowedException;
@@ -19,6 +25,11 @@ import ssafy.ddada.common.properties.S3Properties;
 import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 @Slf4j
@@ -26,11 +37,31 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class S3Util {
 
+    private static final Duration PRESIGNED_URL_DURATION = Duration.ofMinutes(10);
+    private static final Duration CACHE_SAFETY_MARGIN = Duration.ofMinutes(1);
+    private static final int MAX_CACHED_URLS = 10_000;
     private static final Set<String> allowedExtensions = Set.of(".jpg", ".jpeg", ".png", ".gif", ".PNG", ".JPG", ".JPEG", ".GIF");
 
     private final AmazonS3 amazonS3Client;
     private final S3Properties s3Properties;
     private final S3Presigner s3Presigner;
+    private final MeterRegistry meterRegistry;
+
+    private final ExpiringCache<String, String> presignedUrlCache = new ExpiringCache<>(MAX_CACHED_URLS);
+    private Counter cacheHitCounter;
+    private Counter cacheMissCounter;
+
+    @PostConstruct
+    void registerCacheMetrics() {
+        cacheHitCounter = Counter.builder("s3.presigned_url.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        cacheMissCounter = Counter.builder("s3.presigned_url.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("s3.presigned_url.cache.size", presignedUrlCache, ExpiringCache::size)
+                .register(meterRegistry);
+    }
 
     private static @NotNull String getS3FileName(MultipartFile image, Long memberId, String location) {
         String originalFilename = image.getOriginalFilename();
@@ -61,10 +92,51 @@ public class S3Util {
         }
     }
 
-    public String getPresignedUrlFromS3(String imagePath) {
+    // 여러 이미지를 DeleteObjects 한 번으로 삭제 (기본 이미지는 제외, 실패해도 호출자를 중단시키지 않음)
+    public void deleteImagesFromS3(Collection<String> imagePaths) {
+        List<DeleteObjectsRequest.KeyVersion> keys = imagePaths.stream()
+                .filter(Objects::nonNull)
+                .filter(imagePath -> !S3_IMAGE.DEFAULT_URL.equals(imagePath))
+                .map(this::toObjectKey)
+                .distinct()
+                .map(DeleteObjectsRequest.KeyVersion::new)
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
         try {
-            String objectKey = imagePath.replace("https://ddada-image.s3.ap-northeast-2.amazonaws.com/", "");
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(s3Properties.s3().bucket()).withKeys(keys).withQuiet(true));
+        } catch (Exception e) {
+            log.error("S3 이미지 삭제 중 오류 발생 >>>> 대상 수: {}, 원인: {}", keys.size(), e.getMessage(), e);
+        }
+    }
+
+    public String getPresignedUrlFromS3(String imagePath) {
+        if (imagePath == null) {
+            throw new PresignedUrlGenerationFailException();
+        }
+        String objectKey = toObjectKey(imagePath);
+        Instant now = Instant.now();
+
+        Optional<String> cached = presignedUrlCache.get(objectKey);
+        if (cached.isPresent()) {
+            cacheHitCounter.increment();
+            return cached.get();
+        }
+
+        cacheMissCounter.increment();
+        String presignedUrl = presign(objectKey);
+        // 만료 직전의 URL이 응답되지 않도록 안전 마진만큼 일찍 만료시킴
+        presignedUrlCache.put(objectKey, presignedUrl, now.plus(PRESIGNED_URL_DURATION).minus(CACHE_SAFETY_MARGIN));
+        return presignedUrl;
+    }
 
+    private String toObjectKey(String imagePath) {
+        return imagePath.replace("https://ddada-image.s3.ap-northeast-2.amazonaws.com/", "");
+    }
+
+    private String presign(String objectKey) {
+        try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(s3Properties.s3().bucket())
                     .key(objectKey)
@@ -72,15 +144,13 @@ public class S3Util {
 
             GetObjectPresignRequest getObjectPresignRequest = GetObjectPresignRequest.builder()
                     .getObjectRequest(getObjectRequest)
-                    .signatureDuration(Duration.ofMinutes(10))
+                    .signatureDuration(PRESIGNED_URL_DURATION)
                     .build();
 
             PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
             URL presignedUrl = presignedRequest.url();
 
-            log.info("{} 이미지에 대한 presigned URL 생성 성공", objectKey);
-            log.info("presigned URL: {}", presignedUrl.toString());
-
+            log.debug("{} 이미지에 대한 presigned URL 생성 성공", objectKey);
             return presignedUrl.toString();
         } catch (Exception e) {
             log.error("Presigned URL 생성 중 오류 발생: {}", e.getMessage(), e);
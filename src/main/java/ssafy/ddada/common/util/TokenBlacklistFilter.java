@@ -0,0 +1,82 @@
+package ssafy.ddada.common.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ssafy.ddada.domain.redis.BlacklistTokenRedisRepository;
+
+import java.util.Set;
+
+import static ssafy.ddada.common.constant.redis.KEY_PREFIX.BLACKLIST_CHANNEL;
+
+/**
+ * 블랙리스트 토큰의 로컬 Bloom filter.
+ * 대부분의 요청(블랙리스트에 없는 토큰)은 Redis 조회 없이 통과하고, 필터에 걸린 경우에만 Redis로 확인합니다.
+ * 새로 추가된 토큰은 pub/sub으로 전달받고, 놓친 메시지와 만료된 항목은 주기적인 재구성으로 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistFilter implements MessageListener {
+
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final BlacklistTokenRedisRepository blacklistTokenRedisRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    // 재구성 중 도착한 메시지를 새 필터에도 반영하기 위한 참조
+    private volatile BloomFilter rebuilding;
+    // 필터 로딩에 실패한 동안에는 모든 토큰을 Redis로 확인
+    private volatile boolean loaded = false;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 0)
+    public void rebuild() {
+        try {
+            BloomFilter rebuilt = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+            rebuilding = rebuilt;
+            Set<String> tokens = blacklistTokenRedisRepository.findActiveTokens();
+            tokens.forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+            loaded = true;
+            log.info("[TokenBlacklistFilter] 블랙리스트 필터 재구성 >>>> 토큰 수: {}", tokens.size());
+        } catch (Exception e) {
+            log.error("[TokenBlacklistFilter] 블랙리스트 필터 재구성 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String token = blacklistTokenRedisRepository.deserializeMessage(message.getBody());
+        if (token != null) {
+            add(token);
+        }
+    }
+
+    public void add(String token) {
+        bloomFilter.put(token);
+        BloomFilter pending = rebuilding;
+        if (pending != null) {
+            pending.put(token);
+        }
+    }
+
+    public boolean mightBeBlacklisted(String token) {
+        return !loaded || bloomFilter.mightContain(token);
+    }
+
+}
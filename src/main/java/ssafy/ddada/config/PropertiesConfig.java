@@ -14,7 +14,9 @@ import ssafy.ddada.common.properties.*;
         GmailSmtpProperties.class,
         CoolSmsProperties.class,
         ElasticsearchProperties.class,
-        WebClientProperties.class
+        WebClientProperties.class,
+        AnalyticsClientProperties.class,
+        MemberPurgeProperties.class
 })
 public class PropertiesConfig {
 }
@@ -1,19 +1,50 @@
 package ssafy.ddada.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ssafy.ddada.common.properties.AnalyticsClientProperties;
+import ssafy.ddada.common.properties.WebClientProperties;
+import ssafy.ddada.config.filter.AnalyticsCircuitBreakerFilter;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
-    @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    private final WebClientProperties webClientProperties;
+    private final AnalyticsClientProperties analyticsClientProperties;
+    private final AnalyticsCircuitBreakerFilter analyticsCircuitBreakerFilter;
+
+    // 분석 서버 전용 커넥션 풀. 풀이 가득 차면 대기열 한도와 대기 시간 안에서만 기다림
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider analyticsConnectionProvider() {
+        return ConnectionProvider.builder("analytics")
+                .maxConnections(analyticsClientProperties.maxConnections())
+                .pendingAcquireMaxCount(analyticsClientProperties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(analyticsClientProperties.pendingAcquireTimeout())
+                .maxIdleTime(analyticsClientProperties.maxIdleTime())
+                .evictInBackground(analyticsClientProperties.maxIdleTime())
+                .metrics(true)
+                .build();
     }
 
+    // Spring Boot가 구성한 Builder를 사용해야 http.client.requests 지표가 URI 템플릿 단위로 기록됨
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        return builder.build();
+    public WebClient analyticsWebClient(WebClient.Builder builder, ConnectionProvider analyticsConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(analyticsConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) analyticsClientProperties.connectTimeout().toMillis())
+                .responseTimeout(analyticsClientProperties.responseTimeout())
+                .followRedirect(true);
+
+        return builder
+                .baseUrl(webClientProperties.url())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(analyticsCircuitBreakerFilter)
+                .build();
     }
-}
\ No newline at end of file
+}
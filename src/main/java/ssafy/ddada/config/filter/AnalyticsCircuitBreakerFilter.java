@@ -0,0 +1,123 @@
+package ssafy.ddada.config.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import ssafy.ddada.common.exception.data.DataServiceUnavailableException;
+import ssafy.ddada.common.properties.AnalyticsClientProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 분석 서버 호출용 서킷 브레이커.
+ * 연결 실패, 응답 타임아웃, 5xx가 연속으로 임계치만큼 발생하면 일정 시간 호출을 즉시 거절하고,
+ * 그 뒤 한 건의 시험 호출이 성공해야 다시 호출을 허용합니다.
+ * {@link #BYPASS_ATTRIBUTE} 속성이 있는 요청은 자체 재시도 정책이 있는 백그라운드 호출이므로 차단과 상태 판단에서 모두 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsCircuitBreakerFilter implements ExchangeFilterFunction {
+
+    public static final String BYPASS_ATTRIBUTE = AnalyticsCircuitBreakerFilter.class.getName() + ".BYPASS";
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final AnalyticsClientProperties analyticsClientProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    private Counter rejectedCounter;
+    private Counter openedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("analytics.client.circuit.state", state, current -> current.get().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("analytics.client.circuit.rejected")
+                .register(meterRegistry);
+        openedCounter = Counter.builder("analytics.client.circuit.opened")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.attribute(BYPASS_ATTRIBUTE).isPresent()) {
+            return next.exchange(request);
+        }
+        if (!tryAcquirePermission()) {
+            rejectedCounter.increment();
+            return Mono.error(new DataServiceUnavailableException());
+        }
+        return next.exchange(request)
+                .doOnNext(response -> {
+                    // 4xx는 요청 자체의 문제이므로 분석 서버 상태 판단에서 제외
+                    if (response.statusCode().is5xxServerError()) {
+                        onFailure(request);
+                    } else {
+                        onSuccess();
+                    }
+                })
+                .doOnError(e -> onFailure(request))
+                .doOnCancel(this::onCancel);
+    }
+
+    private boolean tryAcquirePermission() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - openedAtNanos >= analyticsClientProperties.openDuration().toNanos()
+                    && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+            // 시험 호출이 진행 중이면 결과가 나올 때까지 거절
+            case HALF_OPEN -> false;
+        };
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("[AnalyticsCircuitBreaker] 분석 서버 호출 재개");
+        }
+    }
+
+    private void onFailure(ClientRequest request) {
+        if (state.get() == State.HALF_OPEN) {
+            open(State.HALF_OPEN, request);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= analyticsClientProperties.failureThreshold()) {
+            open(State.CLOSED, request);
+        }
+    }
+
+    private void onCancel() {
+        // 시험 호출이 호출자 타임아웃으로 취소되면 결과를 알 수 없으므로 다시 차단
+        if (state.get() == State.HALF_OPEN) {
+            open(State.HALF_OPEN, null);
+        }
+    }
+
+    private void open(State from, ClientRequest request) {
+        openedAtNanos = System.nanoTime();
+        if (state.compareAndSet(from, State.OPEN)) {
+            consecutiveFailures.set(0);
+            openedCounter.increment();
+            log.warn("[AnalyticsCircuitBreaker] 분석 서버 호출 차단 >>>> 차단 시간: {}, 마지막 실패 요청: {}",
+                    analyticsClientProperties.openDuration(), request != null ? request.url() : "시험 호출 취소");
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package ssafy.ddada.domain.court.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import ssafy.ddada.domain.search.SearchIndexEntityListener;
 import ssafy.ddada.domain.gym.entity.Gym;
 import ssafy.ddada.domain.match.entity.Match;
 
@@ -10,6 +11,7 @@ import java.util.List;
 
 @Getter
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Builder
 @ToString
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
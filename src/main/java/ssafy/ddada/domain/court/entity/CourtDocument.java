@@ -3,6 +3,7 @@ package ssafy.ddada.domain.court.entity;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
+import ssafy.ddada.domain.gym.entity.Gym;
 
 import static org.springframework.data.elasticsearch.annotations.FieldType.*;
 
@@ -31,4 +32,15 @@ public class CourtDocument {
     @Field(type = Keyword)
     private String gymRegion;
 
+    public static CourtDocument from(Court court) {
+        Gym gym = court.getGym();
+        return CourtDocument.builder()
+                .id(String.valueOf(court.getId()))
+                .courtId(court.getId())
+                .gymName(gym != null ? gym.getName() : null)
+                .gymAddress(gym != null ? gym.getAddress() : null)
+                .gymRegion(gym != null ? gym.getRegion().getKorValue() : null)
+                .build();
+    }
+
 }
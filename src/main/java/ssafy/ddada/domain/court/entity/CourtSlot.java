@@ -0,0 +1,51 @@
+package ssafy.ddada.domain.court.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 코트의 시간대별 점유 장부. (court_id, slot_date, slot_time) 유니크 키로 같은 코트의 중복 예약을 DB에서 막습니다.
+ * 경기가 생성될 때 점유되고, 취소되거나 삭제될 때 반환됩니다.
+ */
+@Getter
+@Builder
+@Entity
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "court_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_court_slot_court_date_time", columnNames = {"court_id", "slot_date", "slot_time"}),
+        indexes = @Index(name = "idx_court_slot_match", columnList = "match_id")
+)
+public class CourtSlot extends BaseCourtEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "court_slot_id")
+    private Long id;
+
+    @Column(name = "court_id", nullable = false)
+    private Long courtId;
+
+    @Column(nullable = false)
+    private LocalDate slotDate;
+
+    @Column(nullable = false)
+    private LocalTime slotTime;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    public static CourtSlot of(Long courtId, LocalDate slotDate, LocalTime slotTime, Long matchId) {
+        return CourtSlot.builder()
+                .courtId(courtId)
+                .slotDate(slotDate)
+                .slotTime(slotTime)
+                .matchId(matchId)
+                .build();
+    }
+}
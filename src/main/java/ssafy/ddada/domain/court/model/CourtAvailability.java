@@ -0,0 +1,39 @@
+package ssafy.ddada.domain.court.model;
+
+import ssafy.ddada.domain.court.entity.CourtSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 코트의 날짜별 예약 현황 비트맵. i번째 비트가 1이면 i시 시간대(i:00 ~ i:59)가 예약되어 있습니다.
+ */
+public record CourtAvailability(
+        Long courtId,
+        Map<LocalDate, Integer> reservedBitmaps
+) {
+    public static final int SLOTS_PER_DAY = 24;
+
+    // 조회 구간의 모든 날짜를 0으로 채운 뒤 점유된 시간대의 비트를 켬
+    public static CourtAvailability of(Long courtId, LocalDate fromDate, LocalDate toDate, Collection<CourtSlot> slots) {
+        Map<LocalDate, Integer> bitmaps = new LinkedHashMap<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            bitmaps.put(date, 0);
+        }
+        for (CourtSlot slot : slots) {
+            bitmaps.computeIfPresent(slot.getSlotDate(), (date, bitmap) -> bitmap | toBit(slot.getSlotTime()));
+        }
+        return new CourtAvailability(courtId, bitmaps);
+    }
+
+    public static int toBit(LocalTime time) {
+        return 1 << time.getHour();
+    }
+
+    public boolean isReserved(LocalDate date, LocalTime time) {
+        return (reservedBitmaps.getOrDefault(date, 0) & toBit(time)) != 0;
+    }
+}
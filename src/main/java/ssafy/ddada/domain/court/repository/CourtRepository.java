@@ -1,37 +1,75 @@
 package ssafy.ddada.domain.court.repository;
 
 import io.lettuce.core.dynamic.annotation.Param;
-import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ssafy.ddada.domain.court.entity.Court;
+import ssafy.ddada.domain.gym.entity.Region;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CourtRepository extends JpaRepository<Court, Long> {
 
-    @EntityGraph(attributePaths = {"matches"})
+    @EntityGraph(attributePaths = {"gym"})
     @Query("""
         SELECT c
         FROM Court c
         WHERE c.id = :courtId
     """)
-    Optional<Court> findCourtWithMatchesById(@Param("courtId") Long courtId);
+    Optional<Court> findCourtWithGymById(@Param("courtId") Long courtId);
 
-    @EntityGraph(attributePaths = {"gym", "matches"})
+    // court_slot 장부만으로 해당 시간에 비어있는 코트를 조회 (match 테이블은 사용하지 않음)
+    @EntityGraph(attributePaths = {"gym"})
     @Query("""
         SELECT c
         FROM Court c
-        WHERE c.id in :courtIds
+        WHERE (:regions IS NULL OR c.gym.region IN :regions) AND
+            NOT EXISTS (
+                SELECT cs.id
+                FROM CourtSlot cs
+                WHERE cs.courtId = c.id AND
+                    cs.slotDate = :date AND
+                    cs.slotTime = :time
+            )
+        ORDER BY c.id
     """)
-    List<Court> findCourtsByCourtIds(@Param("courtIds") List<Long> courtIds);
+    List<Court> findAvailableCourts(
+            @Param("regions") Set<Region> regions,
+            @Param("date") LocalDate date,
+            @Param("time") LocalTime time
+    );
 
-    @EntityGraph(attributePaths = {"gym", "gym.gymAdmin", "matches"})
-    @NotNull
-    List<Court> findAll();
+    @EntityGraph(attributePaths = {"gym"})
+    @Query("""
+        SELECT c
+        FROM Court c
+        WHERE c.id IN :courtIds
+    """)
+    List<Court> findCourtsWithGymByCourtIds(@Param("courtIds") Collection<Long> courtIds);
+
+    @Query("""
+        SELECT c.id
+        FROM Court c
+        WHERE c.gym.id = :gymId
+    """)
+    List<Long> findCourtIdsByGymId(@Param("gymId") Long gymId);
+
+    @EntityGraph(attributePaths = {"gym"})
+    @Query("""
+        SELECT c
+        FROM Court c
+        WHERE c.id > :lastId
+        ORDER BY c.id
+    """)
+    List<Court> findCourtsWithGymAfterId(@Param("lastId") Long lastId, Limit limit);
 
 }
@@ -0,0 +1,47 @@
+package ssafy.ddada.domain.court.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.court.entity.CourtSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CourtSlotRepository extends JpaRepository<CourtSlot, Long> {
+
+    @Query("""
+        SELECT COUNT(cs) > 0
+        FROM CourtSlot cs
+        WHERE cs.courtId = :courtId AND
+            cs.slotDate = :slotDate AND
+            cs.slotTime = :slotTime
+    """)
+    boolean existsByCourtAndDateTime(@Param("courtId") Long courtId, @Param("slotDate") LocalDate slotDate, @Param("slotTime") LocalTime slotTime);
+
+    @Query("""
+        SELECT cs
+        FROM CourtSlot cs
+        WHERE cs.courtId IN :courtIds AND
+            cs.slotDate BETWEEN :fromDate AND :toDate
+        ORDER BY cs.courtId, cs.slotDate, cs.slotTime
+    """)
+    List<CourtSlot> findByCourtIdsAndDateRange(
+            @Param("courtIds") Collection<Long> courtIds,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+
+    @Modifying
+    @Query("""
+        DELETE FROM CourtSlot cs
+        WHERE cs.matchId IN :matchIds
+    """)
+    int deleteByMatchIds(@Param("matchIds") Collection<Long> matchIds);
+
+}
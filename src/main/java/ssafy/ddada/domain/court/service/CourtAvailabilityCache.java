@@ -0,0 +1,168 @@
+package ssafy.ddada.domain.court.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ssafy.ddada.domain.court.model.CourtAvailability;
+import ssafy.ddada.domain.court.repository.CourtSlotRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코트별 날짜 비트맵을 Redis hash(court_availability:{courtId}, 필드: 날짜)로 캐싱합니다.
+ * 캐시는 court_slot 장부로만 채우며, 경기 생성/취소/삭제 커밋 후 해당 코트의 키를 지워 무효화합니다.
+ * 무효화할 때마다 코트별 세대 번호를 올리고, DB 조회 전에 읽은 세대가 그대로일 때만 캐시에 적재하므로
+ * 조회 도중 커밋된 예약 변경이 이전 현황으로 덮어써지지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourtAvailabilityCache {
+
+    private static final String KEY_PREFIX = "court_availability:";
+    private static final String GENERATION_KEY_PREFIX = "court_availability_gen:";
+    private static final Duration TTL = Duration.ofHours(6);
+    // 진행 중인 조회보다 충분히 오래 유지되면 되며, 만료되어도 세대 비교가 실패하는 방향이라 안전함
+    private static final Duration GENERATION_TTL = Duration.ofDays(7);
+
+    // 세대가 조회 시작 시점과 같을 때만 적재 (ARGV: 기대 세대, TTL 초, 날짜/비트맵 쌍)
+    private static final RedisScript<Long> PUT_IF_GENERATION_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2]) or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 세대를 올린 뒤 캐시를 삭제 (ARGV: 세대 TTL 초)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final RedisTemplate<String, Integer> redisTemplate;
+    private final CourtSlotRepository courtSlotRepository;
+
+    public CourtAvailability get(Long courtId, LocalDate fromDate, LocalDate toDate) {
+        String key = cacheKey(courtId);
+        List<Object> fields = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            fields.add(date.toString());
+        }
+
+        HashOperations<String, Object, Integer> hashOperations = redisTemplate.opsForHash();
+        List<Integer> cached = hashOperations.multiGet(key, fields);
+        if (cached != null && !cached.contains(null)) {
+            Map<LocalDate, Integer> bitmaps = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                bitmaps.put(LocalDate.parse((String) fields.get(i)), cached.get(i));
+            }
+            return new CourtAvailability(courtId, bitmaps);
+        }
+
+        // DB 조회 전에 세대를 읽어, 조회 중 무효화가 일어나면 적재하지 않음
+        String generation = readGeneration(courtId);
+        CourtAvailability availability = CourtAvailability.of(
+                courtId,
+                fromDate,
+                toDate,
+                courtSlotRepository.findByCourtIdsAndDateRange(List.of(courtId), fromDate, toDate)
+        );
+        if (putIfGenerationUnchanged(courtId, generation, availability)) {
+            log.debug("[CourtAvailabilityCache] 코트 예약 현황 캐시 적재 >>>> 코트 ID: {}, 기간: {} ~ {}", courtId, fromDate, toDate);
+        } else {
+            log.debug("[CourtAvailabilityCache] 조회 중 예약 변경으로 캐시 적재 생략 >>>> 코트 ID: {}", courtId);
+        }
+        return availability;
+    }
+
+    // INCR로 저장된 정수 문자열을 그대로 읽음 (키가 없으면 0세대)
+    private String readGeneration(Long courtId) {
+        byte[] generationKey = RedisSerializer.string().serialize(generationKey(courtId));
+        byte[] generation = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(generationKey));
+        return generation == null ? "0" : RedisSerializer.string().deserialize(generation);
+    }
+
+    private boolean putIfGenerationUnchanged(Long courtId, String generation, CourtAvailability availability) {
+        RedisSerializer<String> stringSerializer = RedisSerializer.string();
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+
+        // 필드는 문자열, 비트맵은 hash 값 직렬화 방식 그대로 전달해 multiGet으로 읽을 수 있게 함
+        List<byte[]> args = new ArrayList<>();
+        args.add(stringSerializer.serialize(generation));
+        args.add(stringSerializer.serialize(String.valueOf(TTL.toSeconds())));
+        availability.reservedBitmaps().forEach((date, bitmap) -> {
+            args.add(stringSerializer.serialize(date.toString()));
+            args.add(hashValueSerializer.serialize(bitmap));
+        });
+
+        Long stored = redisTemplate.execute(
+                PUT_IF_GENERATION_SCRIPT,
+                RedisSerializer.byteArray(),
+                RESULT_SERIALIZER,
+                List.of(cacheKey(courtId), generationKey(courtId)),
+                args.toArray()
+        );
+        return Long.valueOf(1).equals(stored);
+    }
+
+    public void evictAfterCommit(Long courtId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(courtId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(courtId);
+            }
+        });
+    }
+
+    private void evict(Long courtId) {
+        try {
+            redisTemplate.execute(
+                    EVICT_SCRIPT,
+                    RedisSerializer.string(),
+                    RESULT_SERIALIZER,
+                    List.of(cacheKey(courtId), generationKey(courtId)),
+                    String.valueOf(GENERATION_TTL.toSeconds())
+            );
+        } catch (Exception e) {
+            // 캐시 삭제 실패 시 TTL 만료까지 이전 현황이 보일 수 있음
+            log.error("[CourtAvailabilityCache] 코트 예약 현황 캐시 삭제 실패 >>>> 코트 ID: {}, 원인: {}", courtId, e.getMessage(), e);
+        }
+    }
+
+    // 캐시와 세대 키가 같은 클러스터 슬롯에 있도록 코트 ID를 해시 태그로 묶음
+    private String cacheKey(Long courtId) {
+        return KEY_PREFIX + "{" + courtId + "}";
+    }
+
+    private String generationKey(Long courtId) {
+        return GENERATION_KEY_PREFIX + "{" + courtId + "}";
+    }
+
+}
@@ -1,13 +1,22 @@
 package ssafy.ddada.domain.court.service;
 
 import org.springframework.data.domain.Page;
+import ssafy.ddada.api.court.response.CourtAvailabilityResponse;
 import ssafy.ddada.api.court.response.CourtDetailResponse;
 import ssafy.ddada.api.court.response.CourtSimpleResponse;
 import ssafy.ddada.domain.court.command.CourtSearchCommand;
+import ssafy.ddada.domain.gym.entity.Region;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
 
 public interface CourtService {
 
     CourtDetailResponse getCourtById(Long courtId);
     Page<CourtSimpleResponse> getElasticFilteredCourts(CourtSearchCommand command);
+    CourtAvailabilityResponse getCourtAvailability(Long courtId, LocalDate fromDate, int days);
+    List<CourtSimpleResponse> getAvailableCourts(Set<Region> regions, LocalDate date, LocalTime time);
 
 }
@@ -11,6 +11,7 @@ import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ssafy.ddada.api.court.response.CourtAvailabilityResponse;
 import ssafy.ddada.api.court.response.CourtDetailResponse;
 import ssafy.ddada.api.court.response.CourtSimpleResponse;
 import ssafy.ddada.common.exception.gym.CourtNotFoundException;
@@ -18,11 +19,22 @@ import ssafy.ddada.common.util.S3Util;
 import ssafy.ddada.domain.court.command.CourtSearchCommand;
 import ssafy.ddada.domain.court.entity.Court;
 import ssafy.ddada.domain.court.entity.CourtDocument;
+import ssafy.ddada.domain.court.model.CourtAvailability;
 import ssafy.ddada.domain.court.repository.CourtRepository;
+import ssafy.ddada.domain.court.repository.CourtSlotRepository;
+import ssafy.ddada.domain.gym.entity.Region;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static ssafy.ddada.common.util.ParameterUtil.*;
 
@@ -35,14 +47,60 @@ public class CourtServiceImpl implements CourtService {
     private final CourtRepository courtRepository;
     private final ElasticsearchOperations elasticsearchOperations;
     private final S3Util s3Util;
+    private final CourtAvailabilityCache courtAvailabilityCache;
+    private final CourtSlotRepository courtSlotRepository;
+
+    private static final int DEFAULT_AVAILABILITY_DAYS = 14;
+    private static final int MAX_AVAILABILITY_DAYS = 31;
 
     @Override
     public CourtDetailResponse getCourtById(Long courtId) {
         log.info("[CourtService] 코트 조회 >>>> 코트 ID: {}", courtId);
-        Court court = courtRepository.findCourtWithMatchesById(courtId)
+        Court court = courtRepository.findCourtWithGymById(courtId)
                 .orElseThrow(CourtNotFoundException::new);
         String presignedUrl = s3Util.getPresignedUrlFromS3(court.getGym().getImage());
-        return CourtDetailResponse.from(court, presignedUrl);
+
+        // 전체 경기 이력 대신 오늘부터 기본 조회 기간의 예약 시간대만 포함
+        LocalDate today = LocalDate.now();
+        CourtAvailability availability = courtAvailabilityCache.get(courtId, today, today.plusDays(DEFAULT_AVAILABILITY_DAYS - 1));
+        return CourtDetailResponse.from(court, presignedUrl, toReservations(availability));
+    }
+
+    @Override
+    public CourtAvailabilityResponse getCourtAvailability(Long courtId, LocalDate fromDate, int days) {
+        log.info("[CourtService] 코트 예약 현황 조회 >>>> 코트 ID: {}, 시작일: {}, 기간: {}", courtId, fromDate, days);
+        if (!courtRepository.existsById(courtId)) {
+            throw new CourtNotFoundException();
+        }
+        LocalDate startDate = fromDate != null ? fromDate : LocalDate.now();
+        int windowDays = Math.min(Math.max(days, 1), MAX_AVAILABILITY_DAYS);
+        CourtAvailability availability = courtAvailabilityCache.get(courtId, startDate, startDate.plusDays(windowDays - 1));
+        return CourtAvailabilityResponse.from(availability);
+    }
+
+    @Override
+    public List<CourtSimpleResponse> getAvailableCourts(Set<Region> regions, LocalDate date, LocalTime time) {
+        log.info("[CourtService] 예약 가능한 코트 조회 >>>> 지역: {}, 날짜: {}, 시간: {}", regions, date, time);
+        return courtRepository.findAvailableCourts(regions, date, time)
+                .stream()
+                .map(court -> CourtSimpleResponse.onMatchListFrom(court, s3Util.getPresignedUrlFromS3(court.getGym().getImage())))
+                .toList();
+    }
+
+    private Map<String, List<String>> toReservations(CourtAvailability availability) {
+        Map<String, List<String>> reservations = new LinkedHashMap<>();
+        availability.reservedBitmaps().forEach((date, bitmap) -> {
+            List<String> times = new ArrayList<>();
+            for (int hour = 0; hour < CourtAvailability.SLOTS_PER_DAY; hour++) {
+                if ((bitmap & (1 << hour)) != 0) {
+                    times.add(LocalTime.of(hour, 0).toString());
+                }
+            }
+            if (!times.isEmpty()) {
+                reservations.put(date.toString(), times);
+            }
+        });
+        return reservations;
     }
 
     @Override
@@ -53,18 +111,40 @@ public class CourtServiceImpl implements CourtService {
         List<Long> courtIds = courtDocuments
                 .map(searchHit -> searchHit.getContent().getCourtId())
                 .toList();
-        List<CourtSimpleResponse> courts = courtRepository.findCourtsByCourtIds(courtIds)
+        if (courtIds.isEmpty()) {
+            return new PageImpl<>(List.of(), command.pageable(), courtDocuments.getTotalHits());
+        }
+
+        // 경기 컬렉션은 로딩하지 않고 체육관만 함께 조회한 뒤 ES 관련도 순서대로 재정렬
+        Map<Long, Court> courtsById = courtRepository.findCourtsWithGymByCourtIds(courtIds)
                 .stream()
+                .collect(Collectors.toMap(Court::getId, Function.identity()));
+        Map<Long, Map<String, List<String>>> reservationsByCourt = getReservations(courtIds);
+
+        List<CourtSimpleResponse> courts = courtIds.stream()
+                .map(courtsById::get)
+                .filter(Objects::nonNull)
                 .map(court -> {
                     String image = Objects.requireNonNull(court.getGym().getImage());
                     String presignedUrl = s3Util.getPresignedUrlFromS3(image);
-                    return CourtSimpleResponse.from(court, presignedUrl);
+                    return CourtSimpleResponse.from(court, presignedUrl, reservationsByCourt.getOrDefault(court.getId(), Map.of()));
                 })
                 .toList();
 
         return new PageImpl<>(courts, command.pageable(), courtDocuments.getTotalHits());
     }
 
+    private Map<Long, Map<String, List<String>>> getReservations(List<Long> courtIds) {
+        LocalDate today = LocalDate.now();
+        Map<Long, Map<String, List<String>>> reservationsByCourt = new HashMap<>();
+        courtSlotRepository.findByCourtIdsAndDateRange(courtIds, today, today.plusDays(DEFAULT_AVAILABILITY_DAYS - 1))
+                .forEach(slot -> reservationsByCourt
+                        .computeIfAbsent(slot.getCourtId(), id -> new LinkedHashMap<>())
+                        .computeIfAbsent(slot.getSlotDate().toString(), date -> new ArrayList<>())
+                        .add(slot.getSlotTime().toString()));
+        return reservationsByCourt;
+    }
+
     private CriteriaQuery generateQuery(String keyword, Set<String> regions, Pageable pageable){
         keyword = nullToBlank(keyword);
         regions = nullToEmptySet(regions);
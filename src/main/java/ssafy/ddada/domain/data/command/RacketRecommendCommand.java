@@ -9,4 +9,22 @@ public record RacketRecommendCommand(
         String price,
         List<Integer> racketIds
 ) {
+    // 같은 의미의 요청이 같은 캐시 키와 같은 요청 URL을 갖도록 공백과 라켓 ID 순서/중복을 정리
+    public RacketRecommendCommand normalize() {
+        return new RacketRecommendCommand(
+                trim(balance),
+                trim(weight),
+                trim(shaft),
+                trim(price),
+                racketIds == null ? List.of() : racketIds.stream().distinct().sorted().toList()
+        );
+    }
+
+    public String cacheKey() {
+        return String.join("|", balance, weight, price, shaft, racketIds.toString());
+    }
+
+    private static String trim(String value) {
+        return value == null ? "" : value.trim();
+    }
 }
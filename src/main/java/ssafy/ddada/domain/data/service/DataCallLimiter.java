@@ -0,0 +1,34 @@
+package ssafy.ddada.domain.data.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import ssafy.ddada.common.exception.data.DataServiceBusyException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 서버로 동시에 나가는 호출 수를 제한합니다.
+ * 한도를 넘는 요청은 대기시키지 않고 즉시 거절해, 분석 서버가 느려져도 대기 요청이 무한히 쌓이지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class DataCallLimiter {
+
+    private static final int MAX_CONCURRENT_CALLS = 64;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > MAX_CONCURRENT_CALLS) {
+                inFlight.decrementAndGet();
+                log.warn("[DataCallLimiter] 분석 서버 동시 호출 한도 초과 >>>> 한도: {}", MAX_CONCURRENT_CALLS);
+                return Mono.error(new DataServiceBusyException());
+            }
+            // 완료, 실패, 취소(타임아웃 포함) 어느 경우에도 한 번만 반납
+            return call.doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+}
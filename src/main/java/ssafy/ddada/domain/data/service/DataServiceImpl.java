@@ -2,126 +2,211 @@ package ssafy.ddada.domain.data.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import ssafy.ddada.api.data.response.PlayerAnalysticResponse;
 import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse;
 import ssafy.ddada.api.data.response.RacketRecommendResponse;
 import ssafy.ddada.common.exception.data.DataNotFoundException;
+import ssafy.ddada.common.exception.data.DataServiceTimeoutException;
+import ssafy.ddada.common.exception.data.MatchAnalysisPendingException;
 import ssafy.ddada.common.exception.security.NotAuthenticatedException;
-import ssafy.ddada.common.properties.WebClientProperties;
 import ssafy.ddada.common.util.SecurityUtil;
 import ssafy.ddada.domain.data.command.RacketRecommendCommand;
-
+import ssafy.ddada.domain.match.entity.MatchAnalysisStatus;
+import ssafy.ddada.domain.match.repository.MatchAnalysisOutboxRepository;
+import ssafy.ddada.domain.match.repository.MatchParticipantRepository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 분석 서버 호출을 요청 스레드에서 기다리지 않도록 모든 조회를 Mono로 반환합니다.
+ * 로그인 정보는 요청 스레드에서 먼저 읽고, Redis/DB 조회처럼 블로킹되는 작업은 boundedElastic 스케줄러에서 실행합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class DataServiceImpl implements DataService {
 
+    // 요청마다 ObjectMapper를 만들지 않도록 스레드 안전한 ObjectReader를 공유
+    private static final ObjectReader RACKET_RECOMMEND_READER = new ObjectMapper().readerFor(RacketRecommendResponse.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    // 검증된 직접 계산 결과가 있을 때 분석 서버 응답을 기다리는 최대 시간
+    private static final Duration STRATEGY_WAIT = Duration.ofMillis(300);
+
     private final WebClient webClient;
-    private final WebClientProperties webClientProperties;
+    private final RacketRecommendCache racketRecommendCache;
+    private final PlayerMatchAnalyticsCache playerMatchAnalyticsCache;
+    private final MatchAnalysisOutboxRepository matchAnalysisOutboxRepository;
+    private final DataCallLimiter dataCallLimiter;
+    private final MatchParticipantRepository matchParticipantRepository;
+    private final MatchAnalyticsEngine matchAnalyticsEngine;
+    private final MatchAnalyticsParityChecker matchAnalyticsParityChecker;
+
+    private final Map<String, Mono<PlayerMatchAnalyticsResponse>> inFlightAnalyses = new ConcurrentHashMap<>();
 
     @Override
-    public PlayerMatchAnalyticsResponse PlayerMatchAnalytics(Long matchId) {
+    public Mono<PlayerMatchAnalyticsResponse> PlayerMatchAnalytics(Long matchId) {
         log.info("[DateService] 선수 경기 분석 >>>> 경기 ID: {}", matchId);
         Long playerId = SecurityUtil.getLoginMemberId()
                 .orElseThrow(NotAuthenticatedException::new);
-        String requestUrl = webClientProperties.url() + playerId + "/" + matchId + "/";
 
-        return webClient.get()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToMono(PlayerMatchAnalyticsResponse.class)
-                .blockOptional()
+        return Mono.fromCallable(() -> playerMatchAnalyticsCache.get(playerId, matchId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(Mono.defer(() -> analyzePlayerMatchOnce(playerId, matchId)));
+    }
+
+    // 같은 선수/경기의 동시 캐시 미스는 하나의 분석으로 합침
+    private Mono<PlayerMatchAnalyticsResponse> analyzePlayerMatchOnce(Long playerId, Long matchId) {
+        String key = playerId + ":" + matchId;
+        return inFlightAnalyses.computeIfAbsent(key, k -> analyzePlayerMatch(playerId, matchId)
+                .doFinally(signal -> inFlightAnalyses.remove(k))
+                .cache());
+    }
+
+    /**
+     * 분석 서버 응답을 기준으로 하고, 직접 계산한 항목은 비교 검증에만 사용합니다.
+     * 검증이 끝난 뒤({@link MatchAnalyticsParityChecker#isTrusted()})에만 분석 서버 응답이 늦거나 실패할 때 직접 계산한 항목으로 응답하며,
+     * 그 전에는 분석 서버 응답을 기다리거나 오류를 그대로 반환해 조회마다 수치가 달라지지 않도록 합니다.
+     */
+    private Mono<PlayerMatchAnalyticsResponse> analyzePlayerMatch(Long playerId, Long matchId) {
+        Mono<Optional<PlayerMatchAnalyticsResponse>> localAnalytics = Mono.fromCallable(() -> Optional.of(computeLocalAnalytics(playerId, matchId)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> Mono.just(Optional.empty()))
+                .cache();
+
+        return Mono.fromCallable(() -> isAnalysisCompleted(matchId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(analysisCompleted -> {
+                    if (!analysisCompleted) {
+                        // 분석 서버에 아직 결과가 없으므로 호출하지 않음
+                        return fallbackToLocal(localAnalytics, new MatchAnalysisPendingException());
+                    }
+                    Mono<PlayerMatchAnalyticsResponse> remoteAnalytics = Mono.zip(
+                                    request(PlayerMatchAnalyticsResponse.class, "{playerId}/{matchId}/", playerId, matchId),
+                                    localAnalytics
+                            )
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(results -> completeAnalytics(playerId, matchId, results.getT1(), results.getT2()));
+                    if (!matchAnalyticsParityChecker.isTrusted()) {
+                        return remoteAnalytics;
+                    }
+                    // 먼저 응답하더라도 분석 서버 호출은 끝까지 진행해 전체 결과를 캐싱
+                    Mono<PlayerMatchAnalyticsResponse> sharedRemoteAnalytics = remoteAnalytics.cache();
+                    sharedRemoteAnalytics.subscribe(
+                            response -> {},
+                            e -> log.warn("[DataService] 경기 분석 조회 실패 >>>> 경기 ID: {}, 원인: {}", matchId, e.getMessage())
+                    );
+                    return sharedRemoteAnalytics.timeout(STRATEGY_WAIT)
+                            .onErrorResume(e -> fallbackToLocal(localAnalytics, e));
+                });
+    }
+
+    private Mono<PlayerMatchAnalyticsResponse> fallbackToLocal(Mono<Optional<PlayerMatchAnalyticsResponse>> localAnalytics, Throwable cause) {
+        if (!matchAnalyticsParityChecker.isTrusted()) {
+            return Mono.error(cause);
+        }
+        // 전략 항목 없이 응답하며, 다음 조회에서 분석 서버 결과를 다시 받아오도록 캐싱하지 않음
+        return localAnalytics.flatMap(local -> local.map(Mono::just).orElseGet(() -> Mono.error(cause)));
+    }
+
+    private PlayerMatchAnalyticsResponse completeAnalytics(Long playerId, Long matchId, PlayerMatchAnalyticsResponse remote, Optional<PlayerMatchAnalyticsResponse> local) {
+        local.ifPresent(response -> matchAnalyticsParityChecker.check(matchId, response, remote));
+        if (remote.strategy() != null) {
+            // 전략이 빠진 응답은 다음 조회에서 다시 받아오도록 캐싱하지 않음
+            playerMatchAnalyticsCache.put(playerId, matchId, remote);
+        }
+        return remote;
+    }
+
+    private PlayerMatchAnalyticsResponse computeLocalAnalytics(Long playerId, Long matchId) {
+        int playerNumber = matchParticipantRepository.findPlayerNumber(matchId, playerId)
                 .orElseThrow(DataNotFoundException::new);
+        long participantCount = matchParticipantRepository.countByMatchId(matchId);
+        return matchAnalyticsEngine.analyze(matchId, playerNumber, (int) participantCount);
+    }
+
+    // outbox 도입 전에 저장된 경기는 엔트리가 없으며, 저장 시점에 이미 분석 서버로 전송됨
+    private boolean isAnalysisCompleted(Long matchId) {
+        return matchAnalysisOutboxRepository.findByMatchId(matchId)
+                .map(outbox -> outbox.getStatus() == MatchAnalysisStatus.COMPLETED)
+                .orElse(true);
     }
 
     @Override
-    public PlayerAnalysticResponse PlayerAnalytics() {
+    public Mono<PlayerAnalysticResponse> PlayerAnalytics() {
         log.info("[DataService] 선수 분석");
         Long playerId = SecurityUtil.getLoginMemberId()
                 .orElseThrow(NotAuthenticatedException::new);
-        String requestUrl = webClientProperties.url() + playerId + "/";
 
-        return webClient.get()
-                .uri(requestUrl)
+        return request(PlayerAnalysticResponse.class, "{playerId}/", playerId);
+    }
+
+    @Override
+    public Mono<RacketRecommendResponse> RecommendRacket(RacketRecommendCommand command) {
+        log.info("[DataService] 라켓 추천");
+        RacketRecommendCommand normalized = command.normalize();
+        return racketRecommendCache.get(normalized.cacheKey(), () -> fetchRacketRecommendation(normalized));
+    }
+
+    // 지표가 호출별 URL이 아닌 URI 템플릿 단위로 집계되도록 템플릿과 변수를 분리해 전달
+    private <T> Mono<T> request(Class<T> responseType, String uriTemplate, Object... uriVariables) {
+        return dataCallLimiter.limit(webClient.get()
+                .uri(uriTemplate, uriVariables)
                 .retrieve()
                 .onStatus(
                         status -> status.is4xxClientError() || status.is5xxServerError(),
                         clientResponse -> clientResponse.bodyToMono(String.class)
                                 .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException())
-                                )
+                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
                 )
-                .bodyToMono(PlayerAnalysticResponse.class)
-                .blockOptional()
-                .orElseThrow(DataNotFoundException::new);
+                .bodyToMono(responseType)
+                .timeout(REQUEST_TIMEOUT, Mono.error(DataServiceTimeoutException::new))
+                .switchIfEmpty(Mono.error(DataNotFoundException::new)));
     }
 
-    @Override
-    public RacketRecommendResponse RecommendRacket(RacketRecommendCommand command) {
-        log.info("[DataService] 라켓 추천");
-        String baseUrl = webClientProperties.url();
-
-        // 경로 매개변수로 URL 생성
-        String requestUrl = String.format("%s/rackets/%s/%s/%s/%s",
-                baseUrl,
-                command.balance(),
-                command.weight(),
-                command.price(),
-                command.shaft()
-        );
-
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(requestUrl);
-        if (command.racketIds() != null && !command.racketIds().isEmpty()) {
-            command.racketIds().forEach(racketId -> uriBuilder.queryParam("racket_id", racketId));
+    private Mono<RacketRecommendResponse> fetchRacketRecommendation(RacketRecommendCommand command) {
+        // 경로 매개변수로 URI 템플릿 생성
+        StringBuilder uriTemplate = new StringBuilder("rackets/{balance}/{weight}/{price}/{shaft}");
+        Map<String, Object> uriVariables = new HashMap<>();
+        uriVariables.put("balance", command.balance());
+        uriVariables.put("weight", command.weight());
+        uriVariables.put("price", command.price());
+        uriVariables.put("shaft", command.shaft());
+        for (int i = 0; i < command.racketIds().size(); i++) {
+            uriTemplate.append(i == 0 ? '?' : '&').append("racket_id={racketId").append(i).append('}');
+            uriVariables.put("racketId" + i, command.racketIds().get(i));
         }
-        log.debug("[DataService] Request URL: {}", uriBuilder.toUriString());
+        log.debug("[DataService] Request URI: {}, 변수: {}", uriTemplate, uriVariables);
 
-        String finalUrl = uriBuilder.toUriString();
-
-        // WebClient 요청
-        ResponseEntity<String> response = webClient.get()
-                .uri(finalUrl)
+        // 리다이렉트는 클라이언트가 따라가므로 최종 응답 본문만 처리
+        return dataCallLimiter.limit(webClient.get()
+                .uri(uriTemplate.toString(), uriVariables)
                 .retrieve()
-                .toEntity(String.class)
-                .block();
-
-        if (response.getStatusCode().is3xxRedirection()) {
-            String redirectUrl = response.getHeaders().getLocation().toString();
-            log.debug("[DataService] Redirect URL: {}", redirectUrl);
-
-            response = webClient.get()
-                    .uri(redirectUrl)
-                    .retrieve()
-                    .toEntity(String.class)
-                    .block();
-        }
+                .bodyToMono(String.class)
+                .timeout(REQUEST_TIMEOUT, Mono.error(DataServiceTimeoutException::new))
+                .switchIfEmpty(Mono.error(DataNotFoundException::new))
+                .map(this::parseRacketRecommendation));
+    }
 
-        // 응답 본문 처리
-        String responseString = response.getBody();
+    private RacketRecommendResponse parseRacketRecommendation(String responseString) {
         log.debug("[DataService] Response Body: {}", responseString);
-
         try {
             // JSON 응답 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(responseString, RacketRecommendResponse.class);
+            return RACKET_RECOMMEND_READER.readValue(responseString);
         } catch (JsonProcessingException e) {
             log.error("JSON parsing error", e);
             throw new DataNotFoundException();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,358 @@
+package ssafy.ddada.domain.data.service;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.LoseSkillDetail;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.MiddleSkillRate;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.ScoreLoseRateResponse;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.ScoreSkillDetail;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SetInfoResponse;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SkillRate;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SkillRateText;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SkillResponse;
+import ssafy.ddada.domain.match.entity.EarnedType;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 경기의 득점 기록을 한 번의 순회로 집계해 선수 경기 분석 응답을 만듭니다.
+ * 랠리별 값은 원시 배열에 쌓아 랠리마다 객체를 만들지 않습니다. 한 번의 분석에만 사용하며 스레드 안전하지 않습니다.
+ */
+final class MatchAnalyticsAccumulator implements RowCallbackHandler {
+
+    private static final EarnedType[] EARNED_TYPES = EarnedType.values();
+    private static final int NONE = 0; // 득점 기록의 선수 번호가 없는 경우 (ResultSet.getInt의 NULL 값)
+    private static final byte NO_TYPE = -1;
+    private static final int INITIAL_RALLIES = 128;
+    private static final int INITIAL_SETS = 4;
+    // 평균 대비 기술 비율 차이가 이 값(%p) 이상이면 높음/낮음으로 표시
+    private static final double TEXT_MARGIN = 5.0;
+
+    private final int playerNumber;
+    private final int myTeam;
+
+    // 랠리별 기록. 세트 경계는 setEnds(세트의 마지막 랠리 다음 위치)로 구분
+    private int rallyCount;
+    private int[] earnedPlayers = new int[INITIAL_RALLIES];
+    private int[] missedPlayers1 = new int[INITIAL_RALLIES];
+    private int[] missedPlayers2 = new int[INITIAL_RALLIES];
+    private byte[] earnedTypes = new byte[INITIAL_RALLIES];
+    private int[] team1Scores = new int[INITIAL_RALLIES];
+    private int[] team2Scores = new int[INITIAL_RALLIES];
+
+    private int setCount;
+    private int[] setNumbers = new int[INITIAL_SETS];
+    private int[] setEnds = new int[INITIAL_SETS];
+    private int team1Score;
+    private int team2Score;
+
+    // 득점/실점 집계. 기술별 배열은 EarnedType 순서를 인덱스로 사용
+    private int totalEarned;
+    private int totalMissed;
+    private int myEarned;
+    private int myMissed;
+    private final int[] earnedByType = new int[EARNED_TYPES.length];
+    private final int[] myEarnedByType = new int[EARNED_TYPES.length];
+    private final int[] lostByType = new int[EARNED_TYPES.length];
+    private final int[] myLostByType = new int[EARNED_TYPES.length];
+
+    MatchAnalyticsAccumulator(int playerNumber) {
+        this.playerNumber = playerNumber;
+        this.myTeam = playerNumber / 10;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        accept(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4), rs.getString(5));
+    }
+
+    /**
+     * 득점 기록 한 건을 반영합니다. 기록은 세트/득점 순서로 전달되어야 합니다.
+     *
+     * @param earnedPlayer 득점 선수 번호, 없으면 0 (missedPlayer1/2도 동일)
+     * @param earnedTypeName 득점 유형 이름, 없으면 null
+     */
+    void accept(int setNumber, int earnedPlayer, int missedPlayer1, int missedPlayer2, String earnedTypeName) {
+        if (setCount == 0 || setNumbers[setCount - 1] != setNumber) {
+            startSet(setNumber);
+        }
+        byte earnedType = earnedTypeName == null ? NO_TYPE : (byte) EarnedType.valueOf(earnedTypeName).ordinal();
+
+        int winnerTeam = winnerTeam(earnedPlayer, missedPlayer1, missedPlayer2);
+        if (winnerTeam == 1) {
+            team1Score++;
+        } else if (winnerTeam == 2) {
+            team2Score++;
+        }
+
+        ensureRallyCapacity();
+        earnedPlayers[rallyCount] = earnedPlayer;
+        missedPlayers1[rallyCount] = missedPlayer1;
+        missedPlayers2[rallyCount] = missedPlayer2;
+        earnedTypes[rallyCount] = earnedType;
+        team1Scores[rallyCount] = team1Score;
+        team2Scores[rallyCount] = team2Score;
+        rallyCount++;
+        setEnds[setCount - 1] = rallyCount;
+
+        tallyEarned(earnedPlayer, earnedType);
+        tallyMissed(missedPlayer1, earnedType);
+        tallyMissed(missedPlayer2, earnedType);
+    }
+
+    int rallyCount() {
+        return rallyCount;
+    }
+
+    private void startSet(int setNumber) {
+        if (setCount == setNumbers.length) {
+            setNumbers = Arrays.copyOf(setNumbers, setCount * 2);
+            setEnds = Arrays.copyOf(setEnds, setCount * 2);
+        }
+        setNumbers[setCount] = setNumber;
+        setEnds[setCount] = rallyCount;
+        setCount++;
+        team1Score = 0;
+        team2Score = 0;
+    }
+
+    private void ensureRallyCapacity() {
+        if (rallyCount < earnedPlayers.length) {
+            return;
+        }
+        int capacity = rallyCount * 2;
+        earnedPlayers = Arrays.copyOf(earnedPlayers, capacity);
+        missedPlayers1 = Arrays.copyOf(missedPlayers1, capacity);
+        missedPlayers2 = Arrays.copyOf(missedPlayers2, capacity);
+        earnedTypes = Arrays.copyOf(earnedTypes, capacity);
+        team1Scores = Arrays.copyOf(team1Scores, capacity);
+        team2Scores = Arrays.copyOf(team2Scores, capacity);
+    }
+
+    // 득점 선수가 없으면 실점 선수의 상대 팀이 점수를 얻은 것으로 판단
+    private int winnerTeam(int earnedPlayer, int missedPlayer1, int missedPlayer2) {
+        if (earnedPlayer != NONE) {
+            return earnedPlayer / 10;
+        }
+        if (missedPlayer1 != NONE) {
+            return 3 - missedPlayer1 / 10;
+        }
+        if (missedPlayer2 != NONE) {
+            return 3 - missedPlayer2 / 10;
+        }
+        return NONE;
+    }
+
+    private void tallyEarned(int earnedPlayer, byte earnedType) {
+        if (earnedPlayer == NONE) {
+            return;
+        }
+        totalEarned++;
+        boolean mine = earnedPlayer == playerNumber;
+        if (mine) {
+            myEarned++;
+        }
+        if (earnedType != NO_TYPE) {
+            earnedByType[earnedType]++;
+            if (mine) {
+                myEarnedByType[earnedType]++;
+            }
+        }
+    }
+
+    private void tallyMissed(int missedPlayer, byte earnedType) {
+        if (missedPlayer == NONE) {
+            return;
+        }
+        totalMissed++;
+        boolean mine = missedPlayer == playerNumber;
+        if (mine) {
+            myMissed++;
+        }
+        if (earnedType != NO_TYPE) {
+            lostByType[earnedType]++;
+            if (mine) {
+                myLostByType[earnedType]++;
+            }
+        }
+    }
+
+    PlayerMatchAnalyticsResponse toResponse(int participantCount) {
+        return new PlayerMatchAnalyticsResponse(
+                setInfo(),
+                flow(),
+                new ScoreLoseRateResponse(
+                        percent(totalEarned, (long) rallyCount * participantCount),
+                        percent(myEarned, rallyCount),
+                        percent(totalMissed, (long) rallyCount * participantCount),
+                        percent(myMissed, rallyCount)
+                ),
+                new SkillResponse(
+                        new ScoreSkillDetail(
+                                middleSkillRate(earnedByType),
+                                skillRate(myEarnedByType),
+                                skillRateText(myEarnedByType, earnedByType),
+                                scoreMessage()
+                        ),
+                        new LoseSkillDetail(
+                                middleSkillRate(lostByType),
+                                skillRate(myLostByType),
+                                skillRateText(myLostByType, lostByType),
+                                loseMessage()
+                        )
+                ),
+                null
+        );
+    }
+
+    private List<SetInfoResponse> setInfo() {
+        List<SetInfoResponse> sets = new ArrayList<>(setCount);
+        for (int set = 0; set < setCount; set++) {
+            int from = set == 0 ? 0 : setEnds[set - 1];
+            int to = setEnds[set];
+            sets.add(new SetInfoResponse(
+                    setNumbers[set],
+                    playerNumbers(earnedPlayers, from, to),
+                    playerNumbers(missedPlayers1, from, to),
+                    playerNumbers(missedPlayers2, from, to),
+                    earnedTypeNames(from, to),
+                    scores(team1Scores, from, to),
+                    scores(team2Scores, from, to)
+            ));
+        }
+        return sets;
+    }
+
+    // 내 팀 기준 점수 차이. 세트가 바뀌면 0부터 다시 시작
+    private List<Integer> flow() {
+        List<Integer> flow = new ArrayList<>(rallyCount);
+        for (int rally = 0; rally < rallyCount; rally++) {
+            int difference = team1Scores[rally] - team2Scores[rally];
+            flow.add(myTeam == 1 ? difference : -difference);
+        }
+        return flow;
+    }
+
+    private List<Integer> playerNumbers(int[] values, int from, int to) {
+        List<Integer> numbers = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            numbers.add(values[i] == NONE ? null : values[i]);
+        }
+        return numbers;
+    }
+
+    private List<Integer> scores(int[] values, int from, int to) {
+        List<Integer> scores = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            scores.add(values[i]);
+        }
+        return scores;
+    }
+
+    private List<String> earnedTypeNames(int from, int to) {
+        List<String> names = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            names.add(earnedTypes[i] == NO_TYPE ? null : EARNED_TYPES[earnedTypes[i]].name());
+        }
+        return names;
+    }
+
+    // 서브를 포함한 전체 기술 분포 (경기 참가자 전체 기준)
+    private MiddleSkillRate middleSkillRate(int[] counts) {
+        int total = Arrays.stream(counts).sum();
+        return new MiddleSkillRate(
+                percent(counts[EarnedType.SMASH.ordinal()], total),
+                percent(counts[EarnedType.SERVE.ordinal()], total),
+                percent(counts[EarnedType.HAIRPIN.ordinal()], total),
+                percent(counts[EarnedType.PUSH.ordinal()], total),
+                percent(counts[EarnedType.DROP.ordinal()], total),
+                percent(counts[EarnedType.CLEAR.ordinal()], total)
+        );
+    }
+
+    // 서브를 제외한 랠리 기술 분포
+    private SkillRate skillRate(int[] counts) {
+        return new SkillRate(
+                shotRate(counts, EarnedType.DROP),
+                shotRate(counts, EarnedType.SMASH),
+                shotRate(counts, EarnedType.CLEAR),
+                shotRate(counts, EarnedType.PUSH),
+                shotRate(counts, EarnedType.HAIRPIN)
+        );
+    }
+
+    private SkillRateText skillRateText(int[] myCounts, int[] matchCounts) {
+        return new SkillRateText(
+                compare(myCounts, matchCounts, EarnedType.DROP),
+                compare(myCounts, matchCounts, EarnedType.SMASH),
+                compare(myCounts, matchCounts, EarnedType.CLEAR),
+                compare(myCounts, matchCounts, EarnedType.PUSH),
+                compare(myCounts, matchCounts, EarnedType.HAIRPIN)
+        );
+    }
+
+    private String compare(int[] myCounts, int[] matchCounts, EarnedType type) {
+        double difference = shotRate(myCounts, type) - shotRate(matchCounts, type);
+        if (difference >= TEXT_MARGIN) {
+            return "경기 평균보다 높음";
+        }
+        if (difference <= -TEXT_MARGIN) {
+            return "경기 평균보다 낮음";
+        }
+        return "경기 평균 수준";
+    }
+
+    private double shotRate(int[] counts, EarnedType type) {
+        int shots = Arrays.stream(counts).sum() - counts[EarnedType.SERVE.ordinal()];
+        return percent(counts[type.ordinal()], shots);
+    }
+
+    private String scoreMessage() {
+        EarnedType topSkill = topSkill(myEarnedByType);
+        if (topSkill == null) {
+            return "이번 경기의 기술별 득점 기록이 없습니다.";
+        }
+        return withDirectionParticle(topSkill.getValue()) + " 가장 많이 득점했습니다.";
+    }
+
+    private String loseMessage() {
+        EarnedType topSkill = topSkill(myLostByType);
+        if (topSkill == null) {
+            return "이번 경기의 기술별 실점 기록이 없습니다.";
+        }
+        return "상대의 " + topSkill.getValue() + "에 가장 많이 실점했습니다.";
+    }
+
+    // 기록이 하나도 없으면 null
+    private EarnedType topSkill(int[] counts) {
+        int top = -1;
+        for (int type = 0; type < counts.length; type++) {
+            if (counts[type] > 0 && (top < 0 || counts[type] > counts[top])) {
+                top = type;
+            }
+        }
+        return top < 0 ? null : EARNED_TYPES[top];
+    }
+
+    // 받침 유무(ㄹ 받침 포함)에 따라 '로'/'으로'를 붙임
+    private String withDirectionParticle(String word) {
+        char last = word.charAt(word.length() - 1);
+        if (last < '가' || last > '힣') {
+            return word + "로";
+        }
+        int finalConsonant = (last - '가') % 28;
+        return word + (finalConsonant == 0 || finalConsonant == 8 ? "로" : "으로");
+    }
+
+    // 소수점 첫째 자리까지의 백분율
+    private double percent(long part, long whole) {
+        if (whole == 0) {
+            return 0.0;
+        }
+        return Math.round(part * 1000.0 / whole) / 10.0;
+    }
+}
@@ -0,0 +1,33 @@
+package ssafy.ddada.domain.data.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse;
+import ssafy.ddada.common.exception.data.DataNotFoundException;
+import ssafy.ddada.domain.match.repository.ScoreStreamRepository;
+
+/**
+ * 저장된 득점 기록만으로 결정되는 선수 경기 분석(세트 기록, 흐름, 득점/실점률, 기술 비율)을 계산합니다.
+ * 득점 기록을 세트/득점 순서로 한 번만 읽어 {@link MatchAnalyticsAccumulator}에 쌓습니다.
+ * 학습 모델이 필요한 전략(strategy) 항목은 계산하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchAnalyticsEngine {
+
+    private final ScoreStreamRepository scoreStreamRepository;
+
+    /**
+     * @param playerNumber     득점 기록 기준 선수 번호 (팀 번호 * 10 + 슬롯 번호)
+     * @param participantCount 경기 참가 선수 수 (평균 득점/실점률의 분모)
+     */
+    public PlayerMatchAnalyticsResponse analyze(Long matchId, int playerNumber, int participantCount) {
+        MatchAnalyticsAccumulator accumulator = new MatchAnalyticsAccumulator(playerNumber);
+        scoreStreamRepository.streamMatchScores(matchId, accumulator);
+        if (accumulator.rallyCount() == 0) {
+            throw new DataNotFoundException();
+        }
+        return accumulator.toResponse(Math.max(participantCount, 1));
+    }
+
+}
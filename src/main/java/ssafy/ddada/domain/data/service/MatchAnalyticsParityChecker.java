@@ -0,0 +1,67 @@
+package ssafy.ddada.domain.data.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 직접 계산한 경기 분석 항목을 분석 서버 응답과 비교해 항목별 일치 여부를 기록합니다.
+ * 모든 항목이 TRUST_THRESHOLD 번 연속으로 일치해야 직접 계산한 결과를 응답에 사용할 수 있고, 한 번이라도 다르면 다시 처음부터 검증합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchAnalyticsParityChecker {
+
+    private static final int TRUST_THRESHOLD = 50;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger consecutiveMatches = new AtomicInteger();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("analytics.local.parity.trusted", this, checker -> checker.isTrusted() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isTrusted() {
+        return consecutiveMatches.get() >= TRUST_THRESHOLD;
+    }
+
+    public void check(Long matchId, PlayerMatchAnalyticsResponse local, PlayerMatchAnalyticsResponse remote) {
+        List<String> mismatched = new ArrayList<>();
+        compare(mismatched, "set_info", local.setInfo(), remote.setInfo());
+        compare(mismatched, "flow", local.flow(), remote.flow());
+        compare(mismatched, "score_lose_rate", local.scoreLoseRate(), remote.scoreLoseRate());
+        compare(mismatched, "skill", local.skill(), remote.skill());
+
+        meterRegistry.counter("analytics.local.parity", "result", mismatched.isEmpty() ? "match" : "mismatch").increment();
+        if (mismatched.isEmpty()) {
+            if (consecutiveMatches.incrementAndGet() == TRUST_THRESHOLD) {
+                log.info("[MatchAnalyticsParity] 직접 계산한 분석 결과 사용 시작 >>>> 연속 일치 수: {}", TRUST_THRESHOLD);
+            }
+            return;
+        }
+        if (consecutiveMatches.getAndSet(0) >= TRUST_THRESHOLD) {
+            log.warn("[MatchAnalyticsParity] 직접 계산한 분석 결과 사용 중단");
+        }
+        log.warn("[MatchAnalyticsParity] 직접 계산한 분석 결과가 분석 서버와 다름 >>>> 경기 ID: {}, 항목: {}", matchId, mismatched);
+    }
+
+    private void compare(List<String> mismatched, String section, Object local, Object remote) {
+        if (!Objects.equals(local, remote)) {
+            mismatched.add(section);
+            meterRegistry.counter("analytics.local.parity.mismatch", "section", section).increment();
+        }
+    }
+}
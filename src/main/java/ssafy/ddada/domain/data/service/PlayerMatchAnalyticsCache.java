@@ -0,0 +1,124 @@
+package ssafy.ddada.domain.data.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 분석이 끝난 경기의 선수별 분석 결과를 Redis hash(player_match_analytics:{matchId}, 필드: 선수 ID)에 gzip 압축 JSON으로 보관합니다.
+ * 분석 결과는 경기가 다시 저장되지 않는 한 바뀌지 않으므로, 경기 재저장 커밋 후 해당 경기의 키를 지워 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerMatchAnalyticsCache {
+
+    private static final String KEY_PREFIX = "player_match_analytics:";
+    // 무효화는 경기 재저장 시에만 일어나므로, TTL은 오래 열람되지 않은 경기를 정리하는 용도
+    private static final Duration TTL = Duration.ofDays(30);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = OBJECT_MAPPER.readerFor(PlayerMatchAnalyticsResponse.class);
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writerFor(PlayerMatchAnalyticsResponse.class);
+
+    // 압축된 바이트를 그대로 저장하기 위해 직렬화기를 거치지 않고 커넥션 명령을 직접 사용
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<PlayerMatchAnalyticsResponse> get(Long playerId, Long matchId) {
+        try {
+            byte[] compressed = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.hashCommands().hGet(key(matchId), field(playerId)));
+            if (compressed == null) {
+                return Optional.empty();
+            }
+            return Optional.of(READER.readValue(decompress(compressed)));
+        } catch (Exception e) {
+            // 캐시 장애 시 분석 서버에서 직접 조회
+            log.error("[PlayerMatchAnalyticsCache] 경기 분석 캐시 조회 실패 >>>> 선수 ID: {}, 경기 ID: {}, 원인: {}", playerId, matchId, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(Long playerId, Long matchId, PlayerMatchAnalyticsResponse response) {
+        try {
+            byte[] compressed = compress(WRITER.writeValueAsBytes(response));
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                store(connection, key(matchId), field(playerId), compressed);
+                return null;
+            });
+            log.debug("[PlayerMatchAnalyticsCache] 경기 분석 캐시 적재 >>>> 선수 ID: {}, 경기 ID: {}, 크기: {}B", playerId, matchId, compressed.length);
+        } catch (Exception e) {
+            log.error("[PlayerMatchAnalyticsCache] 경기 분석 캐시 적재 실패 >>>> 선수 ID: {}, 경기 ID: {}, 원인: {}", playerId, matchId, e.getMessage(), e);
+        }
+    }
+
+    public void evictAfterCommit(Long matchId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(matchId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(matchId);
+            }
+        });
+    }
+
+    private void evict(Long matchId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + matchId);
+        } catch (Exception e) {
+            // 캐시 삭제 실패 시 TTL 만료까지 이전 분석 결과가 보일 수 있음
+            log.error("[PlayerMatchAnalyticsCache] 경기 분석 캐시 삭제 실패 >>>> 경기 ID: {}, 원인: {}", matchId, e.getMessage(), e);
+        }
+    }
+
+    private void store(RedisConnection connection, byte[] key, byte[] field, byte[] value) {
+        connection.hashCommands().hSet(key, field, value);
+        connection.keyCommands().expire(key, TTL.toSeconds());
+    }
+
+    private byte[] key(Long matchId) {
+        return (KEY_PREFIX + matchId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] field(Long playerId) {
+        return String.valueOf(playerId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] compress(byte[] raw) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (OutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(raw);
+        }
+        return buffer.toByteArray();
+    }
+
+    private byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package ssafy.ddada.domain.data.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import ssafy.ddada.api.data.response.RacketRecommendResponse;
+import ssafy.ddada.common.exception.data.DataNotFoundException;
+import ssafy.ddada.common.util.ExpiringCache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 라켓 추천 결과 캐시. 정규화된 요청을 키로 일정 시간 동안 결과를 재사용하고,
+ * 같은 키의 동시 미스는 하나의 원격 호출로 합칩니다. 데이터 서버 장애 시에는 만료된 결과라도 최대 보관 기간 안이면 응답합니다.
+ */
+@Slf4j
+@Component
+public class RacketRecommendCache {
+
+    private static final Duration FRESH_DURATION = Duration.ofMinutes(10);
+    private static final Duration STALE_DURATION = Duration.ofHours(24);
+    private static final int MAX_CACHED_ENTRIES = 1_000;
+
+    // 보관 기간이 지나면 제거되고, 신선 기간은 항목 안의 freshUntil로 판단
+    private final ExpiringCache<String, CachedRecommendation> cache = new ExpiringCache<>(MAX_CACHED_ENTRIES);
+    private final Map<String, CompletableFuture<RacketRecommendResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<RacketRecommendResponse> get(String key, Supplier<Mono<RacketRecommendResponse>> loader) {
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            CachedRecommendation cached = cache.get(key).orElse(null);
+            if (cached != null && cached.isFreshAt(now)) {
+                return Mono.just(cached.response());
+            }
+
+            CompletableFuture<RacketRecommendResponse> leader = new CompletableFuture<>();
+            CompletableFuture<RacketRecommendResponse> running = inFlight.putIfAbsent(key, leader);
+            if (running != null) {
+                // 이미 같은 키를 조회 중인 요청이 있으면 스레드를 점유하지 않고 그 결과를 구독
+                return Mono.fromFuture(running, true)
+                        .onErrorResume(e -> fallbackOrError(key, cached, e));
+            }
+
+            return loader.get()
+                    .doOnNext(response -> {
+                        cache.put(key, new CachedRecommendation(response, now.plus(FRESH_DURATION)), now.plus(STALE_DURATION));
+                        leader.complete(response);
+                    })
+                    .doOnError(leader::completeExceptionally)
+                    .doFinally(signal -> {
+                        // 응답 없이 끝나거나 취소된 경우에도 대기 중인 요청이 풀리도록 정리
+                        if (!leader.isDone()) {
+                            leader.completeExceptionally(new DataNotFoundException());
+                        }
+                        inFlight.remove(key, leader);
+                    })
+                    .onErrorResume(e -> fallbackOrError(key, cached, e));
+        });
+    }
+
+    private Mono<RacketRecommendResponse> fallbackOrError(String key, CachedRecommendation cached, Throwable cause) {
+        if (cached != null) {
+            log.warn("[RacketRecommendCache] 데이터 서버 호출 실패, 만료된 추천 결과로 응답 >>>> 키: {}, 원인: {}", key, cause.getMessage());
+            return Mono.just(cached.response());
+        }
+        return Mono.error(cause);
+    }
+
+    private record CachedRecommendation(RacketRecommendResponse response, Instant freshUntil) {
+        boolean isFreshAt(Instant now) {
+            return now.isBefore(freshUntil);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ssafy.ddada.domain.gym.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import ssafy.ddada.domain.search.SearchIndexEntityListener;
 import ssafy.ddada.common.constant.global.S3_IMAGE;
 import ssafy.ddada.domain.court.entity.Court;
 import ssafy.ddada.domain.member.gymadmin.entity.GymAdmin;
@@ -11,6 +12,7 @@ import java.util.ArrayList;
 
 @Getter
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @ToString
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
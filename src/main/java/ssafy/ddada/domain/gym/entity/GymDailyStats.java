@@ -0,0 +1,54 @@
+package ssafy.ddada.domain.gym.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+
+/**
+ * 체육관의 일자별 경기 집계. 경기 결과가 저장될 때 같은 트랜잭션에서 증분 갱신되며,
+ * 체육관 관리자 대시보드는 경기 테이블 대신 이 집계 행만 조회합니다.
+ */
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "gym_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gym_daily_stats_gym_date", columnNames = {"gym_id", "stat_date"})
+)
+public class GymDailyStats extends BaseGymEntity {
+
+    public static final int HOURS_PER_DAY = 24;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "gym_daily_stats_id")
+    private Long id;
+
+    @Column(name = "gym_id", nullable = false)
+    private Long gymId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private Integer matchesFinished;
+
+    @Column(nullable = false)
+    private Integer revenue;
+
+    // 0시부터 23시까지 시작 시각별 종료 경기 수
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false, columnDefinition = "integer[]")
+    private Integer[] hourlyMatches;
+
+    public int getMatchesAt(int hour) {
+        if (hourlyMatches == null || hour < 0 || hour >= hourlyMatches.length || hourlyMatches[hour] == null) {
+            return 0;
+        }
+        return hourlyMatches[hour];
+    }
+}
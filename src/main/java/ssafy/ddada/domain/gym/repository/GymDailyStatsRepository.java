@@ -0,0 +1,55 @@
+package ssafy.ddada.domain.gym.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.gym.entity.GymDailyStats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface GymDailyStatsRepository extends JpaRepository<GymDailyStats, Long> {
+
+    @Query("""
+        SELECT s
+        FROM GymDailyStats s
+        WHERE s.gymId = :gymId AND
+            s.statDate BETWEEN :fromDate AND :toDate
+        ORDER BY s.statDate
+    """)
+    List<GymDailyStats> findByGymIdAndDateRange(
+            @Param("gymId") Long gymId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+
+    // 종료된 경기 한 건을 해당 일자 집계에 원자적으로 더함 (행이 없으면 생성)
+    @Modifying
+    @Query(value = """
+        INSERT INTO gym_daily_stats (gym_id, stat_date, matches_finished, revenue, hourly_matches, created_at, updated_at)
+        VALUES (
+            :gymId,
+            :statDate,
+            1,
+            :revenue,
+            array_fill(0, ARRAY[:hour]) || 1 || array_fill(0, ARRAY[23 - :hour]),
+            NOW(),
+            NOW()
+        )
+        ON CONFLICT (gym_id, stat_date) DO UPDATE SET
+            matches_finished = gym_daily_stats.matches_finished + 1,
+            revenue = gym_daily_stats.revenue + EXCLUDED.revenue,
+            hourly_matches[:hour + 1] = gym_daily_stats.hourly_matches[:hour + 1] + 1,
+            updated_at = NOW()
+    """, nativeQuery = true)
+    void addFinishedMatch(
+            @Param("gymId") Long gymId,
+            @Param("statDate") LocalDate statDate,
+            @Param("hour") int hour,
+            @Param("revenue") int revenue
+    );
+
+}
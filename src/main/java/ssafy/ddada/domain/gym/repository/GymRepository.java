@@ -17,4 +17,11 @@ public interface GymRepository extends JpaRepository<Gym, Long> {
     """)
     Optional<Gym> getGymsById(@Param("gymAdminId") Long gymAdminId);
 
+    @Query("""
+        SELECT g.id
+        FROM Gym g
+        WHERE g.gymAdmin.id = :gymAdminId
+    """)
+    Optional<Long> findGymIdByGymAdminId(@Param("gymAdminId") Long gymAdminId);
+
 }
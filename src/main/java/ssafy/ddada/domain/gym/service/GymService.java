@@ -3,6 +3,7 @@ package ssafy.ddada.domain.gym.service;
 import ssafy.ddada.api.gym.response.GymDetailResponse;
 import ssafy.ddada.api.gym.response.GymMatchesHistoryResponse;
 import ssafy.ddada.api.gym.response.GymMatchesResponse;
+import ssafy.ddada.api.gym.response.GymStatsResponse;
 
 import java.time.LocalDate;
 
@@ -10,6 +11,7 @@ public interface GymService {
 
     GymDetailResponse getGymInfo();
     GymMatchesResponse getGymMatches(LocalDate date);
-    GymMatchesHistoryResponse getGymMatchesHistory();
+    GymMatchesHistoryResponse getGymMatchesHistory(int days);
+    GymStatsResponse getGymStats(LocalDate fromDate, LocalDate toDate);
 
 }
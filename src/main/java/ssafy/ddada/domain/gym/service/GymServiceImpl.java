@@ -7,10 +7,12 @@ import org.springframework.transaction.annotation.Transactional;
 import ssafy.ddada.api.gym.response.GymDetailResponse;
 import ssafy.ddada.api.gym.response.GymMatchesHistoryResponse;
 import ssafy.ddada.api.gym.response.GymMatchesResponse;
+import ssafy.ddada.api.gym.response.GymStatsResponse;
 import ssafy.ddada.common.exception.gym.GymAdminNotFoundException;
 import ssafy.ddada.common.exception.gym.GymNotFoundException;
 import ssafy.ddada.common.util.SecurityUtil;
 import ssafy.ddada.domain.gym.entity.Gym;
+import ssafy.ddada.domain.gym.repository.GymDailyStatsRepository;
 import ssafy.ddada.domain.gym.repository.GymRepository;
 import ssafy.ddada.domain.match.entity.Match;
 import ssafy.ddada.domain.match.repository.MatchRepository;
@@ -28,6 +30,10 @@ public class GymServiceImpl implements GymService {
 
     private final GymRepository gymRepository;
     private final MatchRepository matchRepository;
+    private final GymDailyStatsRepository gymDailyStatsRepository;
+
+    private static final int DEFAULT_STATS_DAYS = 7;
+    private static final int MAX_STATS_DAYS = 366;
 
     @Override
     public GymDetailResponse getGymInfo() {
@@ -46,17 +52,40 @@ public class GymServiceImpl implements GymService {
     }
 
     @Override
-    public GymMatchesHistoryResponse getGymMatchesHistory() {
-        log.info("[GymService] 체육관 최근 경기 현황 조회");
-        Long gymAdminId = SecurityUtil.getLoginMemberId().orElseThrow(GymAdminNotFoundException::new);
-        Map<LocalDate, Integer> history = new HashMap<>();
-        LocalDate aWeekAgo = LocalDate.now().minusWeeks(1);
+    public GymMatchesHistoryResponse getGymMatchesHistory(int days) {
+        log.info("[GymService] 체육관 최근 경기 현황 조회 >>>> 기간: {}", days);
+        Long gymId = getLoginGymId();
+        int windowDays = Math.min(Math.max(days, 1), MAX_STATS_DAYS);
+        LocalDate toDate = LocalDate.now().minusDays(1);
+        LocalDate fromDate = toDate.minusDays(windowDays - 1);
 
-        for (LocalDate date = aWeekAgo; date.isBefore(LocalDate.now()); date = date.plusDays(1)){
-            int count = matchRepository.countByGymIdAndMatchDate(gymAdminId, date);
-            history.put(date, count);
+        Map<LocalDate, Integer> history = new HashMap<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            history.put(date, 0);
         }
+        gymDailyStatsRepository.findByGymIdAndDateRange(gymId, fromDate, toDate)
+                .forEach(stat -> history.put(stat.getStatDate(), stat.getMatchesFinished()));
         return GymMatchesHistoryResponse.of(history);
     }
 
+    @Override
+    public GymStatsResponse getGymStats(LocalDate fromDate, LocalDate toDate) {
+        log.info("[GymService] 체육관 경기 통계 조회 >>>> 시작일: {}, 종료일: {}", fromDate, toDate);
+        Long gymId = getLoginGymId();
+        LocalDate endDate = toDate != null ? toDate : LocalDate.now().minusDays(1);
+        LocalDate startDate = fromDate != null ? fromDate : endDate.minusDays(DEFAULT_STATS_DAYS - 1);
+        if (startDate.isAfter(endDate)) {
+            startDate = endDate;
+        }
+        if (startDate.isBefore(endDate.minusDays(MAX_STATS_DAYS - 1))) {
+            startDate = endDate.minusDays(MAX_STATS_DAYS - 1);
+        }
+        return GymStatsResponse.of(startDate, endDate, gymDailyStatsRepository.findByGymIdAndDateRange(gymId, startDate, endDate));
+    }
+
+    private Long getLoginGymId() {
+        Long gymAdminId = SecurityUtil.getLoginMemberId().orElseThrow(GymAdminNotFoundException::new);
+        return gymRepository.findGymIdByGymAdminId(gymAdminId).orElseThrow(GymNotFoundException::new);
+    }
+
 }
@@ -0,0 +1,13 @@
+package ssafy.ddada.domain.initializer;
+
+/**
+ * {@link BackfillRunner}가 기동 옵션으로 지정되었을 때 실행하는 일회성 데이터 채우기 작업.
+ * 여러 작업을 함께 지정하면 {@link org.springframework.core.annotation.Order} 순서로 실행됩니다.
+ */
+public interface Backfill {
+
+    // 이 작업을 실행할 기동 옵션 이름
+    String option();
+
+    void run();
+}
@@ -0,0 +1,36 @@
+package ssafy.ddada.domain.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 옵션으로 지정된 {@link Backfill} 작업을 순서대로 실행합니다.
+ * {@code --backfill-all} 옵션으로 기동하면 모든 작업을 실행하며, 작업 하나가 실패하면 이후 작업은 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackfillRunner implements ApplicationRunner {
+
+    private static final String BACKFILL_ALL_OPTION = "backfill-all";
+
+    // @Order 순서로 주입됨
+    private final List<Backfill> backfills;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean all = args.containsOption(BACKFILL_ALL_OPTION);
+        for (Backfill backfill : backfills) {
+            if (all || args.containsOption(backfill.option())) {
+                log.info("[BackfillRunner] 데이터 채우기 실행 >>>> 옵션: --{}", backfill.option());
+                backfill.run();
+            }
+        }
+    }
+
+}
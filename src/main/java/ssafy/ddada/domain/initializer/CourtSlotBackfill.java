@@ -0,0 +1,44 @@
+package ssafy.ddada.domain.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 취소되지 않은 기존 경기로 court_slot 장부를 채우는 일회성 명령입니다.
+ * {@code --backfill-court-slots} 옵션으로 기동했을 때 {@link BackfillRunner}가 실행하며, 이미 점유된 시간대는 건너뜁니다.
+ */
+@Slf4j
+@Order(3)
+@Component
+@RequiredArgsConstructor
+public class CourtSlotBackfill implements Backfill {
+
+    private static final String BACKFILL_OPTION = "backfill-court-slots";
+    private static final String BACKFILL_SQL = """
+        INSERT INTO court_slot (court_id, slot_date, slot_time, match_id, created_at, updated_at)
+        SELECT m.court_id, m.match_date, m.match_time, m.match_id, NOW(), NOW()
+        FROM match m
+        WHERE m.status <> 'CANCELED' AND
+            m.match_time IS NOT NULL
+        ORDER BY m.match_id
+        ON CONFLICT DO NOTHING
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String option() {
+        return BACKFILL_OPTION;
+    }
+
+    @Override
+    public void run() {
+        log.info("[CourtSlotBackfill] 코트 점유 장부 채우기 시작");
+        int inserted = jdbcTemplate.update(BACKFILL_SQL);
+        log.info("[CourtSlotBackfill] 코트 점유 장부 채우기 완료 >>>> 추가된 행 수: {}", inserted);
+    }
+
+}
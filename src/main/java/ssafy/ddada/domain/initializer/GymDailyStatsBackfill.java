@@ -0,0 +1,68 @@
+package ssafy.ddada.domain.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import ssafy.ddada.common.constant.global.COURT;
+
+/**
+ * 결과가 기록된 경기로 gym_daily_stats 집계를 다시 계산하는 일회성 명령입니다. 경기 저장 시의 증분 반영과 같은 기준을 사용합니다.
+ * {@code --backfill-gym-daily-stats} 옵션으로 기동했을 때 {@link BackfillRunner}가 실행하며, 이미 있는 일자 행은 재계산 값으로 덮어씁니다.
+ */
+@Slf4j
+@Order(4)
+@Component
+@RequiredArgsConstructor
+public class GymDailyStatsBackfill implements Backfill {
+
+    private static final String BACKFILL_OPTION = "backfill-gym-daily-stats";
+    private static final String BACKFILL_SQL = """
+        WITH hourly AS (
+            SELECT c.gym_id, m.match_date, EXTRACT(HOUR FROM m.match_time)::int AS match_hour, COUNT(*)::int AS match_count
+            FROM match m
+            JOIN court c ON c.court_id = m.court_id
+            WHERE m.winner_team_number IS NOT NULL AND
+                m.match_time IS NOT NULL
+            GROUP BY c.gym_id, m.match_date, EXTRACT(HOUR FROM m.match_time)
+        )
+        INSERT INTO gym_daily_stats (gym_id, stat_date, matches_finished, revenue, hourly_matches, created_at, updated_at)
+        SELECT h.gym_id,
+            h.match_date,
+            SUM(h.match_count),
+            SUM(h.match_count) * ?,
+            ARRAY(
+                SELECT COALESCE(hh.match_count, 0)
+                FROM generate_series(0, 23) AS g(match_hour)
+                LEFT JOIN hourly hh ON hh.gym_id = h.gym_id AND
+                    hh.match_date = h.match_date AND
+                    hh.match_hour = g.match_hour
+                ORDER BY g.match_hour
+            ),
+            NOW(),
+            NOW()
+        FROM hourly h
+        GROUP BY h.gym_id, h.match_date
+        ON CONFLICT (gym_id, stat_date) DO UPDATE SET
+            matches_finished = EXCLUDED.matches_finished,
+            revenue = EXCLUDED.revenue,
+            hourly_matches = EXCLUDED.hourly_matches,
+            updated_at = NOW()
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String option() {
+        return BACKFILL_OPTION;
+    }
+
+    @Override
+    public void run() {
+        log.info("[GymDailyStatsBackfill] 체육관 일자별 집계 재계산 시작");
+        int upserted = jdbcTemplate.update(BACKFILL_SQL, COURT.DEFAULT_PRICE);
+        log.info("[GymDailyStatsBackfill] 체육관 일자별 집계 재계산 완료 >>>> 반영된 행 수: {}", upserted);
+    }
+
+}
@@ -1,99 +1,105 @@
 package ssafy.ddada.domain.initializer;
 
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.DependsOn;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import ssafy.ddada.domain.court.entity.Court;
 import ssafy.ddada.domain.court.entity.CourtDocument;
 import ssafy.ddada.domain.court.repository.CourtElasticsearchRepository;
 import ssafy.ddada.domain.court.repository.CourtRepository;
-import ssafy.ddada.domain.gym.entity.Gym;
+import ssafy.ddada.domain.match.entity.Match;
+import ssafy.ddada.domain.match.entity.MatchDocument;
+import ssafy.ddada.domain.match.repository.MatchElasticsearchRepository;
+import ssafy.ddada.domain.match.repository.MatchRepository;
 import ssafy.ddada.domain.racket.entity.Racket;
 import ssafy.ddada.domain.racket.entity.RacketDocument;
 import ssafy.ddada.domain.racket.repository.RacketElasticsearchRepository;
 import ssafy.ddada.domain.racket.repository.RacketRepository;
-import ssafy.ddada.domain.racket.service.RacketService;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * DB 전체를 ES로 다시 색인하는 일회성 명령입니다. {@code --reindex} 옵션으로 기동했을 때만 실행됩니다.
+ * id 기준 keyset 페이지 단위로 색인하고 페이지마다 마지막 id를 Redis에 기록하므로,
+ * 중간에 중단되어도 다음 실행에서 이어서 진행합니다. 끝까지 색인하면 기록을 지워 다음 실행은 처음부터 색인합니다.
+ * {@code --reindex-reset} 옵션을 주면 중단된 기록이 있어도 처음부터 다시 색인합니다.
+ */
 @Slf4j
-//@Component
-//@DependsOn({"gymInitializer", "racketInitializer"})
+@Component
 @RequiredArgsConstructor
-public class IndexInitializer {
+public class IndexInitializer implements ApplicationRunner {
+
+    private static final String REINDEX_OPTION = "reindex";
+    private static final String RESET_OPTION = "reindex-reset";
+    private static final String CHECKPOINT_PREFIX = "reindex:";
+    private static final int PAGE_SIZE = 500;
 
     private final CourtRepository courtRepository;
     private final RacketRepository racketRepository;
+    private final MatchRepository matchRepository;
     private final CourtElasticsearchRepository courtElasticsearchRepository;
     private final RacketElasticsearchRepository racketElasticsearchRepository;
+    private final MatchElasticsearchRepository matchElasticsearchRepository;
+    private final RedisTemplate<String, String> redisTemplate;
 
-    @PostConstruct
-    public void index(){
-        log.info("[IndexInitializer] DB에서 ES로 인덱싱");
-        indexAllCourt();
-        indexAllRacket();
-    }
-
-    private void indexAllCourt() {
-        log.info("[CourtService] 코트 인덱싱");
-        final int batchSize = 10;
-        List<Court> courts = courtRepository.findAll();
-        List<CourtDocument> courtDocuments = new ArrayList<>(batchSize);
-        int size = courts.size(), cur = 0;
-
-        for (Court court : courts) {
-            courtDocuments.add(createCourtDocument(court));
-            cur++;
-
-            if (cur % batchSize == 0 || cur == size) {
-                log.info("코트 인덱싱 진행도: {}%", Math.round(1000.0 * ++cur / size) / 10.0);
-                courtElasticsearchRepository.saveAll(courtDocuments);
-                courtDocuments.clear();
-            }
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REINDEX_OPTION)) {
+            return;
         }
-    }
+        boolean reset = args.containsOption(RESET_OPTION);
+        log.info("[IndexInitializer] DB에서 ES로 인덱싱 >>>> 초기화 여부: {}", reset);
 
-    private void indexAllRacket() {
-        final int batchSize = 100;
-        List<Racket> rackets = racketRepository.findAll();
-        List<RacketDocument> racketDocuments = new ArrayList<>(batchSize);
-        int size = rackets.size(), cur = 0;
-
-        for (Racket racket : rackets) {
-            racketDocuments.add(createRacketDocument(racket));
-            cur++;
+        reindex("court", reset,
+                courtRepository::findCourtsWithGymAfterId, Court::getId,
+                courts -> courtElasticsearchRepository.saveAll(courts.stream().map(CourtDocument::from).toList()));
+        reindex("racket", reset,
+                racketRepository::findByIdGreaterThanOrderByIdAsc, Racket::getId,
+                rackets -> racketElasticsearchRepository.saveAll(rackets.stream().map(RacketDocument::from).toList()));
+        reindex("match", reset,
+                matchRepository::findMatchesWithCourtAndTeamsAfterId, Match::getId,
+                matches -> matchElasticsearchRepository.saveAll(matches.stream().map(MatchDocument::from).toList()));
+    }
 
-            if (cur % batchSize == 0 || cur == size) {
-                log.info("라켓 인덱싱 진행도: {}%", Math.round(1000.0 * cur / size) / 10.0);
-                racketElasticsearchRepository.saveAll(racketDocuments);
-                racketDocuments.clear();
-            }
+    private <T> void reindex(
+            String index,
+            boolean reset,
+            BiFunction<Long, Limit, List<T>> pageLoader,
+            Function<T, Long> idExtractor,
+            Consumer<List<T>> indexer
+    ) {
+        String checkpointKey = CHECKPOINT_PREFIX + index;
+        if (reset) {
+            redisTemplate.delete(checkpointKey);
         }
-    }
+        String checkpoint = redisTemplate.opsForValue().get(checkpointKey);
+        long lastId = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+        long indexed = 0;
+        log.info("[IndexInitializer] {} 인덱싱 시작 >>>> 시작 ID: {}", index, lastId);
 
-    private CourtDocument createCourtDocument(Court court) {
-        Gym gym = court.getGym();
-        return CourtDocument.builder()
-                .id(String.valueOf(court.getId()))
-                .courtId(court.getId())
-                .gymName(gym != null ? gym.getName() : null)
-                .gymAddress(gym != null ? gym.getAddress() : null)
-                .gymRegion(gym != null ? gym.getRegion().getKorValue() : null)
-                .build();
-    }
+        List<T> page;
+        do {
+            page = pageLoader.apply(lastId, Limit.of(PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            indexer.accept(page);
+            lastId = idExtractor.apply(page.get(page.size() - 1));
+            indexed += page.size();
+            redisTemplate.opsForValue().set(checkpointKey, String.valueOf(lastId));
+            log.info("[IndexInitializer] {} 인덱싱 진행 >>>> 누적: {}, 마지막 ID: {}", index, indexed, lastId);
+        } while (page.size() == PAGE_SIZE);
 
-    private RacketDocument createRacketDocument(Racket racket){
-        return RacketDocument.builder()
-                .racketId(racket.getId())
-                .name(racket.getName())
-                .manufacturer(racket.getManufacturer())
-                .weight(racket.getWeight())
-                .material(racket.getMaterial())
-                .image(racket.getImage())
-                .build();
+        // 중단 없이 끝난 경우에만 기록을 지워, 다음 재색인이 기존 데이터를 건너뛰지 않도록 함
+        redisTemplate.delete(checkpointKey);
+        log.info("[IndexInitializer] {} 인덱싱 완료 >>>> 색인 수: {}, 마지막 ID: {}", index, indexed, lastId);
     }
 
 }
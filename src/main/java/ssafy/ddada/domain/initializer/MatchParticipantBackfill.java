@@ -0,0 +1,91 @@
+package ssafy.ddada.domain.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 경기의 팀 구성으로 match_participant 테이블을 채우는 일회성 명령입니다.
+ * {@code --backfill-match-participants} 옵션으로 기동했을 때 {@link BackfillRunner}가 실행하며, 이미 있는 행과 충돌하면 건너뛰므로 여러 번 실행해도 안전합니다.
+ */
+@Slf4j
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class MatchParticipantBackfill implements Backfill {
+
+    private static final String BACKFILL_OPTION = "backfill-match-participants";
+    private static final int SKIPPED_SAMPLE_SIZE = 20;
+    // 같은 선수가 같은 시간대에 두 경기에 배정된 경우 유니크 제약과 충돌해 건너뛰므로, 건너뛴 행 수와 예시를 함께 반환
+    private static final String BACKFILL_SQL = """
+        WITH slot AS (
+            SELECT t.player1_id AS player_id, m.match_id, 1 AS team_no, 1 AS slot_no, m.match_date, m.match_time
+            FROM match m JOIN team t ON t.team_id = m.team1_id
+            UNION ALL
+            SELECT t.player2_id, m.match_id, 1, 2, m.match_date, m.match_time
+            FROM match m JOIN team t ON t.team_id = m.team1_id
+            UNION ALL
+            SELECT t.player1_id, m.match_id, 2, 1, m.match_date, m.match_time
+            FROM match m JOIN team t ON t.team_id = m.team2_id
+            UNION ALL
+            SELECT t.player2_id, m.match_id, 2, 2, m.match_date, m.match_time
+            FROM match m JOIN team t ON t.team_id = m.team2_id
+        ),
+        inserted AS (
+            INSERT INTO match_participant (player_id, match_id, team_no, slot_no, match_date, match_time, created_at, updated_at)
+            SELECT slot.player_id, slot.match_id, slot.team_no, slot.slot_no, slot.match_date, slot.match_time, NOW(), NOW()
+            FROM slot
+            WHERE slot.player_id IS NOT NULL
+            ON CONFLICT DO NOTHING
+            RETURNING player_id, match_id, team_no, slot_no
+        ),
+        skipped AS (
+            SELECT slot.player_id, slot.match_id, slot.match_date, slot.match_time
+            FROM slot
+            WHERE slot.player_id IS NOT NULL AND
+                NOT EXISTS (
+                    SELECT 1
+                    FROM inserted i
+                    WHERE i.player_id = slot.player_id AND
+                        i.match_id = slot.match_id AND
+                        i.team_no = slot.team_no AND
+                        i.slot_no = slot.slot_no
+                )
+        )
+        SELECT (SELECT COUNT(*) FROM inserted) AS inserted_count,
+            (SELECT COUNT(*) FROM skipped) AS skipped_count,
+            (
+                SELECT STRING_AGG('경기 ' || sample.match_id || ' / 선수 ' || sample.player_id || ' / ' || sample.match_date || ' ' || COALESCE(sample.match_time::text, '시간 미정'), ', ')
+                FROM (SELECT * FROM skipped ORDER BY match_id LIMIT ?) sample
+            ) AS skipped_sample
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String option() {
+        return BACKFILL_OPTION;
+    }
+
+    @Override
+    public void run() {
+        log.info("[MatchParticipantBackfill] 경기 참가자 테이블 채우기 시작");
+        BackfillResult result = jdbcTemplate.queryForObject(
+                BACKFILL_SQL,
+                (rs, rowNum) -> new BackfillResult(rs.getLong("inserted_count"), rs.getLong("skipped_count"), rs.getString("skipped_sample")),
+                SKIPPED_SAMPLE_SIZE
+        );
+        log.info("[MatchParticipantBackfill] 경기 참가자 테이블 채우기 완료 >>>> 추가된 행 수: {}, 건너뛴 행 수: {}", result.inserted(), result.skipped());
+        // 다시 실행한 경우 이미 채워진 행도 건너뛴 행으로 집계됨
+        if (result.skipped() > 0) {
+            log.warn("[MatchParticipantBackfill] 이미 있거나 같은 선수의 같은 시간대 참가와 충돌해 건너뛴 행 >>>> 예시(최대 {}건): {}",
+                    SKIPPED_SAMPLE_SIZE, result.skippedSample());
+        }
+    }
+
+    private record BackfillResult(long inserted, long skipped, String skippedSample) {
+    }
+
+}
@@ -0,0 +1,72 @@
+package ssafy.ddada.domain.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * match_participant 기준으로 선수의 승패 카운터와 경기 유형별 전적을 다시 계산하는 일회성 명령입니다.
+ * {@code --backfill-player-records} 옵션으로 기동했을 때 {@link BackfillRunner}가 실행하며, 기존 값은 재계산 값으로 덮어씁니다.
+ * match_participant 백필이 먼저 끝나 있어야 하며, 두 옵션을 함께 지정하면 그 순서로 실행됩니다.
+ */
+@Slf4j
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class PlayerMatchRecordBackfill implements Backfill {
+
+    private static final String BACKFILL_OPTION = "backfill-player-records";
+    private static final String PLAYER_COUNTER_SQL = """
+        UPDATE player p
+        SET win_count = r.win_count,
+            lose_count = r.lose_count
+        FROM (
+            SELECT mp.player_id,
+                COUNT(*) FILTER (WHERE m.winner_team_number = mp.team_no) AS win_count,
+                COUNT(*) FILTER (WHERE m.winner_team_number <> mp.team_no) AS lose_count
+            FROM match_participant mp
+            JOIN match m ON m.match_id = mp.match_id
+            GROUP BY mp.player_id
+        ) r
+        WHERE p.player_id = r.player_id
+    """;
+    private static final String MATCH_TYPE_RECORD_SQL = """
+        INSERT INTO player_match_record (player_id, match_type, win_count, lose_count, created_at, updated_at)
+        SELECT mp.player_id,
+            m.match_type,
+            COUNT(*) FILTER (WHERE m.winner_team_number = mp.team_no),
+            COUNT(*) FILTER (WHERE m.winner_team_number <> mp.team_no),
+            NOW(),
+            NOW()
+        FROM match_participant mp
+        JOIN match m ON m.match_id = mp.match_id
+        WHERE m.winner_team_number IS NOT NULL
+        GROUP BY mp.player_id, m.match_type
+        ON CONFLICT (player_id, match_type) DO UPDATE SET
+            win_count = EXCLUDED.win_count,
+            lose_count = EXCLUDED.lose_count,
+            updated_at = NOW()
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public String option() {
+        return BACKFILL_OPTION;
+    }
+
+    @Override
+    public void run() {
+        log.info("[PlayerMatchRecordBackfill] 선수 전적 재계산 시작");
+        transactionTemplate.executeWithoutResult(status -> {
+            int players = jdbcTemplate.update(PLAYER_COUNTER_SQL);
+            int records = jdbcTemplate.update(MATCH_TYPE_RECORD_SQL);
+            log.info("[PlayerMatchRecordBackfill] 선수 전적 재계산 완료 >>>> 선수 수: {}, 유형별 전적 행 수: {}", players, records);
+        });
+    }
+
+}
@@ -0,0 +1,20 @@
+package ssafy.ddada.domain.match.command;
+
+import ssafy.ddada.domain.gym.entity.Region;
+import ssafy.ddada.domain.match.entity.MatchStatus;
+import ssafy.ddada.domain.match.entity.MatchType;
+import ssafy.ddada.domain.match.entity.RankType;
+import ssafy.ddada.domain.match.model.MatchCursor;
+
+import java.util.Set;
+
+public record MatchCursorSearchCommand(
+        String keyword,
+        RankType rankType,
+        Set<MatchType> matchTypes,
+        Set<MatchStatus> statuses,
+        Set<Region> region,
+        MatchCursor cursor,
+        int size
+) {
+}
@@ -18,6 +18,7 @@ import java.util.List;
 @ToString
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_match_date_time_id", columnList = "match_date DESC, match_time DESC, match_id DESC"))
 public class Match extends BaseMatchEntity {
 
     @Id
@@ -66,10 +67,22 @@ public class Match extends BaseMatchEntity {
 
     private LocalTime matchTime;
 
+    // 좌석, 매니저 배정 등 경기 상태를 바꾸는 동시 요청 중 하나만 커밋되도록 하는 낙관적 락 버전
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @OneToMany(mappedBy = "match", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE, orphanRemoval = true)
     @Builder.Default
     private List<Set> sets = new ArrayList<>();
 
+    // 관리 중인 엔티티에 결과를 기록해 버전 검사와 함께 갱신되도록 함
+    public void recordResult(Integer winnerTeamNumber, Integer team1SetScore, Integer team2SetScore) {
+        this.winnerTeamNumber = winnerTeamNumber;
+        this.team1SetScore = team1SetScore;
+        this.team2SetScore = team2SetScore;
+    }
+
     public List<String> getTeamGender(Team team) {
         List<String> teamGender = new ArrayList<>();
 
@@ -0,0 +1,84 @@
+package ssafy.ddada.domain.match.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경기 저장 트랜잭션에서 기록되어, 분석 서버로의 전송을 비동기로 재시도하기 위한 outbox 엔트리.
+ */
+@Getter
+@Builder
+@Entity
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_match_analysis_outbox_status_next", columnList = "status, next_attempt_at"))
+public class MatchAnalysisOutbox extends BaseMatchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "match_analysis_outbox_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long matchId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MatchAnalysisStatus status;
+
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    // 전송 결과 반영과 경기 재저장에 의한 초기화가 겹칠 때, 오래된 전송 결과가 초기화를 덮어쓰지 않도록 하는 낙관적 락 버전
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    public static MatchAnalysisOutbox pending(Long matchId) {
+        return MatchAnalysisOutbox.builder()
+                .matchId(matchId)
+                .status(MatchAnalysisStatus.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void reset() {
+        this.status = MatchAnalysisStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 전송하는 동안 다른 인스턴스가 같은 엔트리를 가져가지 않도록 임대 시각까지 다음 시도를 미룸
+    public void claim(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void complete() {
+        this.status = MatchAnalysisStatus.COMPLETED;
+        this.attemptCount++;
+        this.lastError = null;
+    }
+
+    public void fail(String error, int maxAttempts, long baseDelaySeconds) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+
+        if (attemptCount >= maxAttempts) {
+            this.status = MatchAnalysisStatus.FAILED;
+            return;
+        }
+        // 지수 백오프: base, base*2, base*4 ...
+        long delaySeconds = baseDelaySeconds << Math.min(attemptCount - 1, 10);
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(delaySeconds);
+    }
+
+}
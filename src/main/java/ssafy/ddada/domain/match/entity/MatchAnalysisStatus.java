@@ -0,0 +1,16 @@
+package ssafy.ddada.domain.match.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MatchAnalysisStatus {
+
+    PENDING("전송 대기"),
+    COMPLETED("전송 완료"),
+    FAILED("전송 실패");
+
+    private final String value;
+
+}
@@ -1,27 +1,71 @@
 package ssafy.ddada.domain.match.entity;
 
 import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import ssafy.ddada.domain.gym.entity.Gym;
 
 import static org.springframework.data.elasticsearch.annotations.FieldType.*;
 
 @Getter
 @Builder
 @ToString
+@Setting(replicas = 0)
+@Document(indexName = "match")
 @AllArgsConstructor
 @NoArgsConstructor
 public class MatchDocument {
 
-    @Field(type = Keyword, index = false)
+    @Id
+    @Field(type = Keyword)
+    private String id;
+
+    @Field(type = Long)
+    private Long matchId;
+
+    @Field(type = Text, analyzer = "nori")
+    private String gymName;
+
+    @Field(type = Text, analyzer = "nori")
+    private String gymAddress;
+
+    @Field(type = Keyword)
+    private String gymRegion;
+
+    @Field(type = Keyword)
+    private String rankType;
+
+    @Field(type = Keyword)
+    private String matchType;
+
+    @Field(type = Keyword)
+    private String status;
+
+    @Field(type = Keyword)
     private String matchDate;
 
-    @Field(type = Keyword, index = false)
+    @Field(type = Keyword)
     private String matchTime;
 
+    @Field(type = Integer)
+    private Integer playerCount;
+
     public static MatchDocument from(Match match) {
+        Gym gym = match.getCourt().getGym();
         return MatchDocument.builder()
+                .id(String.valueOf(match.getId()))
+                .matchId(match.getId())
+                .gymName(gym.getName())
+                .gymAddress(gym.getAddress())
+                .gymRegion(gym.getRegion() != null ? gym.getRegion().name() : null)
+                .rankType(match.getRankType().name())
+                .matchType(match.getMatchType().name())
+                .status(match.getStatus().name())
                 .matchDate(match.getMatchDate().toString())
-                .matchTime(match.getMatchTime().toString())
+                .matchTime(match.getMatchTime() != null ? match.getMatchTime().toString() : null)
+                .playerCount(match.getTeam1().getPlayerCount() + match.getTeam2().getPlayerCount())
                 .build();
     }
 
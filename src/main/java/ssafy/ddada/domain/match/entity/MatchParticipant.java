@@ -0,0 +1,64 @@
+package ssafy.ddada.domain.match.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ssafy.ddada.domain.member.player.entity.Player;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 경기 참가자 정보를 선수 기준으로 정규화한 테이블.
+ * 선수별 경기 조회와 시간 중복 확인이 (player_id, match_date, match_time) 인덱스 한 번으로 처리되며,
+ * 같은 시간대 중복 예약은 유니크 제약으로 DB에서 거부됩니다.
+ */
+@Getter
+@Builder
+@Entity
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "match_participant",
+        uniqueConstraints = @UniqueConstraint(name = "uk_match_participant_player_date_time", columnNames = {"player_id", "match_date", "match_time"}),
+        indexes = @Index(name = "idx_match_participant_match", columnList = "match_id")
+)
+public class MatchParticipant extends BaseMatchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "match_participant_id")
+    private Long id;
+
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", nullable = false)
+    private Player player;
+
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_id", nullable = false)
+    private Match match;
+
+    @Column(name = "team_no", nullable = false)
+    private Integer teamNumber;
+
+    @Column(name = "slot_no", nullable = false)
+    private Integer slotNumber;
+
+    @Column(nullable = false)
+    private LocalDate matchDate;
+
+    private LocalTime matchTime;
+
+    public static MatchParticipant of(Match match, Player player, Integer teamNumber, Integer slotNumber) {
+        return MatchParticipant.builder()
+                .match(match)
+                .player(player)
+                .teamNumber(teamNumber)
+                .slotNumber(slotNumber)
+                .matchDate(match.getMatchDate())
+                .matchTime(match.getMatchTime())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package ssafy.ddada.domain.match.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 선수의 경기 유형별 승패 전적. 경기 결과가 저장될 때 같은 트랜잭션에서 증분 갱신되며,
+ * 프로필 조회 시 경기 테이블을 집계하지 않고 이 행만 읽습니다.
+ */
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "player_match_record",
+        uniqueConstraints = @UniqueConstraint(name = "uk_player_match_record_player_type", columnNames = {"player_id", "match_type"})
+)
+public class PlayerMatchRecord extends BaseMatchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "player_match_record_id")
+    private Long id;
+
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Column(name = "match_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MatchType matchType;
+
+    @Column(nullable = false)
+    private Integer winCount;
+
+    @Column(nullable = false)
+    private Integer loseCount;
+}
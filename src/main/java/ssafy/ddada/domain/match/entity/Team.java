@@ -33,6 +33,11 @@ public class Team extends BaseMatchEntity {
 
     private int rating;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     public List<Player> getPlayers() {
         List<Player> players = new ArrayList<>();
         if (player1 != null) {
@@ -0,0 +1,10 @@
+package ssafy.ddada.domain.match.model;
+
+/**
+ * 만료 처리 대상 경기의 식별자와 코트 ID. 엔티티를 로딩하지 않고 일괄 취소와 캐시 무효화에 필요한 값만 조회합니다.
+ */
+public record ExpiredMatchRef(
+        Long matchId,
+        Long courtId
+) {
+}
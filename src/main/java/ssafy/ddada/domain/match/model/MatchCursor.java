@@ -0,0 +1,51 @@
+package ssafy.ddada.domain.match.model;
+
+import ssafy.ddada.common.exception.match.InvalidMatchCursorException;
+import ssafy.ddada.domain.match.entity.Match;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import static ssafy.ddada.common.util.ParameterUtil.isEmptyString;
+
+/**
+ * (matchDate, matchTime, id) 내림차순 keyset 페이지네이션의 위치를 나타내는 커서.
+ * 클라이언트에는 불투명한 base64url 문자열로만 노출되며, 시간 미정 경기의 matchTime은 빈 토큰으로 인코딩됩니다.
+ */
+public record MatchCursor(
+        LocalDate matchDate,
+        LocalTime matchTime,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    // 커서가 없을 때 모든 경기보다 뒤에 위치하는 시작점
+    public static MatchCursor first() {
+        return new MatchCursor(LocalDate.of(9999, 12, 31), LocalTime.MAX, Long.MAX_VALUE);
+    }
+
+    public static MatchCursor from(Match match) {
+        return new MatchCursor(match.getMatchDate(), match.getMatchTime(), match.getId());
+    }
+
+    public static MatchCursor decode(String cursor) {
+        if (isEmptyString(cursor)) {
+            return first();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\|");
+            LocalTime matchTime = tokens[1].isEmpty() ? null : LocalTime.parse(tokens[1]);
+            return new MatchCursor(LocalDate.parse(tokens[0]), matchTime, Long.parseLong(tokens[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidMatchCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = matchDate + DELIMITER + (matchTime == null ? "" : matchTime) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package ssafy.ddada.domain.match.model;
+
+import ssafy.ddada.domain.match.entity.MatchStatus;
+import ssafy.ddada.domain.match.entity.MatchType;
+import ssafy.ddada.domain.match.entity.RankType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 선수의 경기 목록 한 행을 구성하는 프로젝션.
+ * 경기, 체육관, 네 선수의 레이팅, 본인의 레이팅 변화를 한 번의 조회로 가져오므로 행마다 추가 쿼리가 발생하지 않습니다.
+ */
+public record PlayerMatchRow(
+        Long matchId,
+        String gymName,
+        String gymAddress,
+        LocalDate matchDate,
+        LocalTime matchTime,
+        MatchType matchType,
+        RankType rankType,
+        MatchStatus status,
+        Integer teamNumber,
+        Integer slotNumber,
+        Integer team1Player1Rating,
+        Integer team1Player2Rating,
+        Integer team2Player1Rating,
+        Integer team2Player2Rating,
+        Integer ratingChange
+) {
+    public Integer averageRating() {
+        return (int) Stream.of(team1Player1Rating, team1Player2Rating, team2Player1Rating, team2Player2Rating)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .average()
+                .orElse(0);
+    }
+
+    public String teamAndNumber() {
+        String teamName = teamNumber == 1 ? "A팀" : "B팀";
+        return teamName + " " + slotNumber + "번";
+    }
+
+    public MatchCursor toCursor() {
+        return new MatchCursor(matchDate, matchTime, matchId);
+    }
+}
@@ -0,0 +1,30 @@
+package ssafy.ddada.domain.match.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.match.entity.MatchAnalysisOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MatchAnalysisOutboxRepository extends JpaRepository<MatchAnalysisOutbox, Long> {
+
+    Optional<MatchAnalysisOutbox> findByMatchId(Long matchId);
+
+    // 여러 인스턴스가 같은 엔트리를 중복 전송하지 않도록 다른 트랜잭션이 잠근 행은 건너뛰고 잠금과 함께 조회
+    @Query(value = """
+        SELECT *
+        FROM match_analysis_outbox
+        WHERE status = 'PENDING' AND
+            next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<MatchAnalysisOutbox> findDispatchableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+}
@@ -0,0 +1,9 @@
+package ssafy.ddada.domain.match.repository;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.match.entity.MatchDocument;
+
+@Repository
+public interface MatchElasticsearchRepository extends ElasticsearchRepository<MatchDocument, String> {
+}
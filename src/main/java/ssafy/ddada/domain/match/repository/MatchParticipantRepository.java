@@ -0,0 +1,132 @@
+package ssafy.ddada.domain.match.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.match.entity.MatchParticipant;
+import ssafy.ddada.domain.match.model.PlayerMatchRow;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MatchParticipantRepository extends JpaRepository<MatchParticipant, Long> {
+
+    @Query("""
+        SELECT COUNT(mp) > 0
+        FROM MatchParticipant mp
+        WHERE mp.player.id = :playerId AND
+            mp.matchDate = :matchDate AND
+            mp.matchTime = :matchTime
+    """)
+    boolean existsByPlayerAndDateTime(@Param("playerId") Long playerId, @Param("matchDate") LocalDate matchDate, @Param("matchTime") LocalTime matchTime);
+
+    // 득점 기록의 선수 번호(팀 번호 * 10 + 슬롯 번호) 형식으로 반환
+    @Query("""
+        SELECT mp.teamNumber * 10 + mp.slotNumber
+        FROM MatchParticipant mp
+        WHERE mp.match.id = :matchId AND
+            mp.player.id = :playerId
+    """)
+    Optional<Integer> findPlayerNumber(@Param("matchId") Long matchId, @Param("playerId") Long playerId);
+
+    @Query("""
+        SELECT COUNT(mp)
+        FROM MatchParticipant mp
+        WHERE mp.match.id = :matchId
+    """)
+    long countByMatchId(@Param("matchId") Long matchId);
+
+    @Modifying
+    @Query("""
+        DELETE FROM MatchParticipant mp
+        WHERE mp.match.id = :matchId AND
+            mp.player.id = :playerId
+    """)
+    int deleteByMatchIdAndPlayerId(@Param("matchId") Long matchId, @Param("playerId") Long playerId);
+
+    @Modifying
+    @Query("""
+        DELETE FROM MatchParticipant mp
+        WHERE mp.match.id = :matchId
+    """)
+    int deleteByMatchId(@Param("matchId") Long matchId);
+
+    @Modifying
+    @Query("""
+        DELETE FROM MatchParticipant mp
+        WHERE mp.player.id IN :playerIds
+    """)
+    int deleteByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
+
+    // 참가 행에서 출발해 경기, 체육관, 팀 선수 레이팅, 본인의 레이팅 변화를 한 번에 조회 (행마다 추가 쿼리 없음)
+    @Query("""
+        SELECT new ssafy.ddada.domain.match.model.PlayerMatchRow(
+            m.id, g.name, g.address, mp.matchDate, mp.matchTime, m.matchType, m.rankType, m.status,
+            mp.teamNumber, mp.slotNumber,
+            p11.rating, p12.rating, p21.rating, p22.rating,
+            rc.ratingChange
+        )
+        FROM MatchParticipant mp
+        JOIN mp.match m
+        JOIN m.court c
+        JOIN c.gym g
+        LEFT JOIN m.team1 t1
+        LEFT JOIN t1.player1 p11
+        LEFT JOIN t1.player2 p12
+        LEFT JOIN m.team2 t2
+        LEFT JOIN t2.player1 p21
+        LEFT JOIN t2.player2 p22
+        LEFT JOIN RatingChange rc ON rc.match = m AND rc.player = mp.player
+        WHERE mp.player.id = :playerId AND
+            (:finishedOnly = FALSE OR m.status = ssafy.ddada.domain.match.entity.MatchStatus.FINISHED)
+        ORDER BY mp.matchDate DESC, mp.matchTime DESC NULLS FIRST, m.id DESC
+    """)
+    List<PlayerMatchRow> findPlayerMatchRows(
+            @Param("playerId") Long playerId,
+            @Param("finishedOnly") boolean finishedOnly
+    );
+
+    // 커서 조회. 시간 미정(matchTime NULL) 경기는 같은 날짜 안에서 가장 앞에 옴
+    @Query("""
+        SELECT new ssafy.ddada.domain.match.model.PlayerMatchRow(
+            m.id, g.name, g.address, mp.matchDate, mp.matchTime, m.matchType, m.rankType, m.status,
+            mp.teamNumber, mp.slotNumber,
+            p11.rating, p12.rating, p21.rating, p22.rating,
+            rc.ratingChange
+        )
+        FROM MatchParticipant mp
+        JOIN mp.match m
+        JOIN m.court c
+        JOIN c.gym g
+        LEFT JOIN m.team1 t1
+        LEFT JOIN t1.player1 p11
+        LEFT JOIN t1.player2 p12
+        LEFT JOIN m.team2 t2
+        LEFT JOIN t2.player1 p21
+        LEFT JOIN t2.player2 p22
+        LEFT JOIN RatingChange rc ON rc.match = m AND rc.player = mp.player
+        WHERE mp.player.id = :playerId AND
+            (:finishedOnly = FALSE OR m.status = ssafy.ddada.domain.match.entity.MatchStatus.FINISHED) AND
+            (mp.matchDate < :cursorDate OR
+                (mp.matchDate = :cursorDate AND :cursorTime IS NULL AND (mp.matchTime IS NOT NULL OR m.id < :cursorId)) OR
+                (mp.matchDate = :cursorDate AND mp.matchTime < :cursorTime) OR
+                (mp.matchDate = :cursorDate AND mp.matchTime = :cursorTime AND m.id < :cursorId))
+        ORDER BY mp.matchDate DESC, mp.matchTime DESC NULLS FIRST, m.id DESC
+    """)
+    List<PlayerMatchRow> findPlayerMatchRowsAfterCursor(
+            @Param("playerId") Long playerId,
+            @Param("finishedOnly") boolean finishedOnly,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorTime") LocalTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+}
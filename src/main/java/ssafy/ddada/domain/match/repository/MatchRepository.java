@@ -1,10 +1,14 @@
 package ssafy.ddada.domain.match.repository;
 
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ssafy.ddada.domain.gym.entity.Region;
@@ -12,9 +16,11 @@ import ssafy.ddada.domain.match.entity.MatchType;
 import ssafy.ddada.domain.match.entity.RankType;
 import ssafy.ddada.domain.match.entity.Match;
 import ssafy.ddada.domain.match.entity.MatchStatus;
+import ssafy.ddada.domain.match.model.ExpiredMatchRef;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -30,6 +36,33 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     """)
     Optional<Match> findByIdWithTeams(@Param("matchId") Long matchId);
 
+    // 커밋 시 경기 버전을 올려, 같은 경기의 좌석을 동시에 바꾸는 트랜잭션 중 하나만 성공하도록 함
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @EntityGraph(attributePaths = {"team1", "team2"})
+    @Query("""
+        SELECT m
+        FROM Match m
+        WHERE m.id = :matchId
+    """)
+    Optional<Match> findByIdWithTeamsForSeatChange(@Param("matchId") Long matchId);
+
+    @EntityGraph(attributePaths = {"court", "court.gym", "team1", "team2"})
+    @Query("""
+        SELECT m
+        FROM Match m
+        WHERE m.id > :lastId
+        ORDER BY m.id
+    """)
+    List<Match> findMatchesWithCourtAndTeamsAfterId(@Param("lastId") Long lastId, Limit limit);
+
+    @EntityGraph(attributePaths = {"court", "court.gym", "team1", "team2"})
+    @Query("""
+        SELECT m
+        FROM Match m
+        WHERE m.id IN :matchIds
+    """)
+    List<Match> findAllByIdsWithCourtAndTeams(@Param("matchIds") List<Long> matchIds);
+
     @EntityGraph(attributePaths = {"court", "court.gym", "team1", "team2"})
     @Query("""
         SELECT m
@@ -49,6 +82,34 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
             Pageable pageable
     );
 
+    // 시간 미정(matchTime NULL) 경기는 같은 날짜 안에서 가장 앞에 오며, 커서가 그 구간에 있으면 시간이 정해진 경기 전체가 뒤에 옴
+    @EntityGraph(attributePaths = {"court", "court.gym", "team1", "team2"})
+    @Query("""
+        SELECT m
+        FROM Match m
+        WHERE (:keyword IS NULL OR m.court.gym.name LIKE CONCAT('%', CAST(:keyword AS string), '%') OR m.court.gym.address LIKE CONCAT('%', CAST(:keyword AS string), '%')) AND
+            (:rankType IS NULL OR m.rankType = :rankType) AND
+            (:matchTypes IS NULL OR m.matchType IN :matchTypes) AND
+            (:statuses IS NULL OR m.status IN :statuses) AND
+            (:regions IS NULL OR m.court.gym.region IN :regions) AND
+            (m.matchDate < :cursorDate OR
+                (m.matchDate = :cursorDate AND :cursorTime IS NULL AND (m.matchTime IS NOT NULL OR m.id < :cursorId)) OR
+                (m.matchDate = :cursorDate AND m.matchTime < :cursorTime) OR
+                (m.matchDate = :cursorDate AND m.matchTime = :cursorTime AND m.id < :cursorId))
+        ORDER BY m.matchDate DESC, m.matchTime DESC NULLS FIRST, m.id DESC
+    """)
+    List<Match> findMatchesByKeywordAndTypeAndStatusAfterCursor(
+            @Param("keyword") String keyword,
+            @Param("rankType") RankType rankType,
+            @Param("matchTypes") Set<MatchType> matchTypes,
+            @Param("statuses") Set<MatchStatus> statuses,
+            @Param("regions") Set<Region> regions,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorTime") LocalTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
     @EntityGraph(attributePaths = {"court", "court.gym", "team1", "team2", "manager"})
     @Query("""
         SELECT m
@@ -74,42 +135,39 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     """)
     Optional<Match> findByIdWithInfos(@Param("matchId") Long matchId);
 
+    // 시작 시각(시간 미정이면 날짜)이 기준 시각을 지났는데 아직 시작되지 않은 경기
     @Query("""
-    SELECT m
-    FROM Match m
-    WHERE :playerId IN (m.team1.player1.id, m.team1.player2.id, m.team2.player1.id, m.team2.player2.id)
-    ORDER BY m.matchDate DESC, m.matchTime DESC
-    """)
-    List<Match> findMatchesByPlayerId(Long playerId);
-
-
-
-    @Query("""
-        SELECT m
+        SELECT new ssafy.ddada.domain.match.model.ExpiredMatchRef(m.id, m.court.id)
         FROM Match m
-        WHERE m.status = 'COMPLETED' AND
-            :playerId IN (m.team1.player1.id, m.team1.player2.id, m.team2.player1.id, m.team2.player2.id)
-        ORDER BY m.matchDate DESC, m.matchTime DESC
+        WHERE (m.status = 'CREATED' OR m.status = 'RESERVED') AND
+            (m.matchDate < :cutoffDate OR
+                (m.matchDate = :cutoffDate AND m.matchTime <= :cutoffTime))
+        ORDER BY m.id
     """)
-    List<Match> findCompletedMatchesByPlayerId(Long playerId);
+    List<ExpiredMatchRef> findOutDatedMatchRefs(
+            @Param("cutoffDate") LocalDate cutoffDate,
+            @Param("cutoffTime") LocalTime cutoffTime,
+            Limit limit
+    );
 
+    // 벌크 갱신은 엔티티를 거치지 않으므로 낙관적 락 버전을 직접 올려 동시 좌석 변경과 충돌하도록 함
+    @Modifying(clearAutomatically = true)
     @Query("""
-        SELECT m
-        FROM Match m
-        WHERE (m.status = 'CREATED' OR m.status = 'RESERVED') AND
-            m.matchDate < CURRENT_DATE
+        UPDATE Match m
+        SET m.status = 'CANCELED',
+            m.version = m.version + 1
+        WHERE m.id IN :matchIds AND
+            (m.status = 'CREATED' OR m.status = 'RESERVED')
     """)
-    List<Match> findAllOutDatedMatches();
+    int cancelMatchesByIds(@Param("matchIds") Collection<Long> matchIds);
 
-    @EntityGraph(attributePaths = {"team1.player1", "team1.player2", "team2.player1", "team2.player2"})
     @Query("""
-        SELECT COUNT(m)
+        SELECT m.id
         FROM Match m
-        WHERE m.matchDate = :matchDate AND
-            m.matchTime = :matchTime AND
-            :playerId IN (m.team1.player1.id, m.team1.player2.id, m.team2.player1.id, m.team2.player2.id)
+        WHERE m.id IN :matchIds AND
+            m.status = 'CANCELED'
     """)
-    int countByPlayerAndDateTime(@Param("playerId") Long playerId, @Param("matchDate") LocalDate matchDate, @Param("matchTime") LocalTime matchTime);
+    List<Long> findCanceledMatchIds(@Param("matchIds") Collection<Long> matchIds);
 
     @EntityGraph(attributePaths = {"manager"})
     @Query("""
@@ -130,14 +188,4 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     """)
     List<Match> getMatchesByGymIdAndDate(@Param("gymAdminId") Long gymAdminId, @Param("date") LocalDate date);
 
-    @EntityGraph(attributePaths = {"court", "court.gym"})
-    @Query("""
-        SELECT COUNT(m)
-        FROM Match m
-        WHERE m.status = "FINISHED" AND
-            m.matchDate = :date AND
-            m.court.gym.id = :gymId
-    """)
-    int countByGymIdAndMatchDate(@Param("gymId") Long gymId, @Param("matchDate") LocalDate date);
-
 }
@@ -0,0 +1,48 @@
+package ssafy.ddada.domain.match.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.match.entity.PlayerMatchRecord;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlayerMatchRecordRepository extends JpaRepository<PlayerMatchRecord, Long> {
+
+    @Query("""
+        SELECT r
+        FROM PlayerMatchRecord r
+        WHERE r.playerId = :playerId
+        ORDER BY r.matchType
+    """)
+    List<PlayerMatchRecord> findByPlayerId(@Param("playerId") Long playerId);
+
+    // 경기 결과 한 건을 선수의 경기 유형별 전적에 원자적으로 더함 (행이 없으면 생성)
+    @Modifying
+    @Query(value = """
+        INSERT INTO player_match_record (player_id, match_type, win_count, lose_count, created_at, updated_at)
+        VALUES (:playerId, :matchType, :wins, :losses, NOW(), NOW())
+        ON CONFLICT (player_id, match_type) DO UPDATE SET
+            win_count = player_match_record.win_count + EXCLUDED.win_count,
+            lose_count = player_match_record.lose_count + EXCLUDED.lose_count,
+            updated_at = NOW()
+    """, nativeQuery = true)
+    void addResult(
+            @Param("playerId") Long playerId,
+            @Param("matchType") String matchType,
+            @Param("wins") int wins,
+            @Param("losses") int losses
+    );
+
+    @Modifying
+    @Query("""
+        DELETE FROM PlayerMatchRecord r
+        WHERE r.playerId IN :playerIds
+    """)
+    int deleteByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
+
+}
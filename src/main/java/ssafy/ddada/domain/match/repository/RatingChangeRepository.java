@@ -1,12 +1,14 @@
 package ssafy.ddada.domain.match.repository;
 
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ssafy.ddada.domain.match.entity.RatingChange;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +21,11 @@ public interface RatingChangeRepository extends JpaRepository<RatingChange, Long
             rc.match.id = :matchId
     """)
     Optional<RatingChange> findRatingChangeByMatchIdAndPlayerId(@Param("playerId") Long playerId, @Param("matchId") Long matchId);
+
+    @Modifying
+    @Query("""
+        DELETE FROM RatingChange rc
+        WHERE rc.player.id IN :playerIds
+    """)
+    int deleteByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
 }
@@ -0,0 +1,47 @@
+package ssafy.ddada.domain.match.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.match.entity.Score;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Score는 IDENTITY 전략이라 Hibernate 배치 insert가 동작하지 않으므로 JDBC 배치로 한 번에 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScoreBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+        INSERT INTO score (set_id, score_number, earned_player, missed_player1, missed_player2, earned_type, missed_type, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAllInBatch(List<Score> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, scores, BATCH_SIZE, (ps, score) -> {
+            ps.setLong(1, score.getSet().getId());
+            ps.setInt(2, score.getScoreNumber());
+            ps.setObject(3, score.getEarnedPlayer(), Types.INTEGER);
+            ps.setObject(4, score.getMissedPlayer1(), Types.INTEGER);
+            ps.setObject(5, score.getMissedPlayer2(), Types.INTEGER);
+            ps.setString(6, score.getEarnedType() != null ? score.getEarnedType().name() : null);
+            ps.setString(7, score.getMissedType() != null ? score.getMissedType().name() : null);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+}
@@ -0,0 +1,30 @@
+package ssafy.ddada.domain.match.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 경기 분석을 위해 한 경기의 득점 기록을 세트/득점 순서대로 한 행씩 흘려보냅니다.
+ * 엔티티나 행 객체를 만들지 않도록 JDBC ResultSet을 콜백에 그대로 전달합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScoreStreamRepository {
+
+    private static final String SELECT_MATCH_SCORES_SQL = """
+        SELECT st.set_number, sc.earned_player, sc.missed_player1, sc.missed_player2, sc.earned_type
+        FROM score sc
+        JOIN "set" st ON st.set_id = sc.set_id
+        WHERE st.match_id = ?
+        ORDER BY st.set_number, sc.score_number
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamMatchScores(Long matchId, RowCallbackHandler handler) {
+        jdbcTemplate.query(SELECT_MATCH_SCORES_SQL, handler, matchId);
+    }
+
+}
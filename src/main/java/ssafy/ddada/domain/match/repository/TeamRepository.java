@@ -1,9 +1,34 @@
 package ssafy.ddada.domain.match.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ssafy.ddada.domain.match.entity.Team;
 
+import java.util.Collection;
+
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    // 영구 삭제되는 선수를 팀 좌석에서 분리 (벌크 갱신이므로 낙관적 락 버전을 직접 올림)
+    @Modifying
+    @Query("""
+        UPDATE Team t
+        SET t.player1 = NULL,
+            t.version = t.version + 1
+        WHERE t.player1.id IN :playerIds
+    """)
+    int detachPlayer1(@Param("playerIds") Collection<Long> playerIds);
+
+    @Modifying
+    @Query("""
+        UPDATE Team t
+        SET t.player2 = NULL,
+            t.version = t.version + 1
+        WHERE t.player2.id IN :playerIds
+    """)
+    int detachPlayer2(@Param("playerIds") Collection<Long> playerIds);
+
 }
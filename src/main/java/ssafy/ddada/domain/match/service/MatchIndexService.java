@@ -0,0 +1,75 @@
+package ssafy.ddada.domain.match.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ssafy.ddada.domain.match.entity.Match;
+import ssafy.ddada.domain.match.entity.MatchDocument;
+import ssafy.ddada.domain.match.entity.MatchStatus;
+import ssafy.ddada.domain.match.repository.MatchElasticsearchRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 경기 변경 사항을 ES match 인덱스에 반영합니다.
+ * 문서는 트랜잭션 안에서 만들고, 저장은 커밋 이후에만 수행해 롤백된 변경이 인덱싱되지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchIndexService {
+
+    private final MatchElasticsearchRepository matchElasticsearchRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    public void indexAfterCommit(Match match) {
+        MatchDocument document = MatchDocument.from(match);
+        runAfterCommit(() -> matchElasticsearchRepository.save(document));
+    }
+
+    // 벌크 갱신으로 엔티티 없이 취소된 경기는 문서 전체 대신 상태 필드만 부분 갱신
+    public void markCanceledAfterCommit(Collection<Long> matchIds) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+        List<UpdateQuery> queries = matchIds.stream()
+                .map(matchId -> UpdateQuery.builder(String.valueOf(matchId))
+                        .withDocument(Document.create().append("status", MatchStatus.CANCELED.name()))
+                        .build())
+                .toList();
+        runAfterCommit(() -> elasticsearchOperations.bulkUpdate(queries, MatchDocument.class));
+    }
+
+    public void deleteAfterCommit(Long matchId) {
+        runAfterCommit(() -> matchElasticsearchRepository.deleteById(String.valueOf(matchId)));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safelyRun(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safelyRun(task);
+            }
+        });
+    }
+
+    private void safelyRun(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            // 인덱스 반영 실패가 경기 요청 자체를 실패시키지 않도록 로그만 남김 (재색인으로 복구)
+            log.error("[MatchIndexService] 경기 인덱스 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+}
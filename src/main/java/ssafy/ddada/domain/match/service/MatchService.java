@@ -10,6 +10,7 @@ import ssafy.ddada.domain.member.manager.command.ManagerMatchStatusChangeCommand
 public interface MatchService {
 
     Page<MatchSimpleResponse> getFilteredMatches(MatchSearchCommand command);
+    MatchCursorResponse getFilteredMatchesByCursor(MatchCursorSearchCommand command);
     void createMatch(MatchCreateCommand command);
     MatchDetailResponse getMatchByIdWithInfos(Long matchId);
     void updateMatchStatus(Long matchId, ManagerMatchStatusChangeCommand command);
@@ -24,5 +25,4 @@ public interface MatchService {
     void allocateManager(Long matchId);
     void deallocateManager(Long matchId);
     void saveMatch(Long matchId, MatchResultCommand command);
-    void saveMatchAnalysisData(Long matchId);
 }
@@ -2,17 +2,27 @@ package ssafy.ddada.domain.match.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import org.springframework.transaction.support.TransactionTemplate;
 import ssafy.ddada.api.CommonResponse;
 import ssafy.ddada.api.match.response.*;
 import ssafy.ddada.common.constant.global.COURT;
 import ssafy.ddada.common.constant.global.S3_IMAGE;
-import ssafy.ddada.common.exception.data.DataNotFoundException;
+import ssafy.ddada.common.exception.gym.CourtAlreadyBookedException;
 import ssafy.ddada.common.exception.gym.CourtNotFoundException;
 import ssafy.ddada.common.exception.gym.GymAdminNotFoundException;
 import ssafy.ddada.common.exception.manager.ManagerAlreadyBookedException;
@@ -22,15 +32,20 @@ import ssafy.ddada.common.exception.match.*;
 import ssafy.ddada.common.exception.player.MemberNotFoundException;
 import ssafy.ddada.common.exception.player.PlayerAlreadyBookedException;
 import ssafy.ddada.common.exception.security.NotAuthenticatedException;
-import ssafy.ddada.common.properties.WebClientProperties;
 import ssafy.ddada.common.util.RankingUtil;
 import ssafy.ddada.common.util.RatingUtil;
 import ssafy.ddada.common.util.S3Util;
 import ssafy.ddada.common.util.SecurityUtil;
 import ssafy.ddada.domain.court.entity.Court;
+import ssafy.ddada.domain.court.entity.CourtSlot;
 import ssafy.ddada.domain.court.repository.CourtRepository;
+import ssafy.ddada.domain.court.repository.CourtSlotRepository;
+import ssafy.ddada.domain.court.service.CourtAvailabilityCache;
+import ssafy.ddada.domain.data.service.PlayerMatchAnalyticsCache;
+import ssafy.ddada.domain.gym.repository.GymDailyStatsRepository;
 import ssafy.ddada.domain.match.command.*;
 import ssafy.ddada.domain.match.entity.*;
+import ssafy.ddada.domain.match.model.MatchCursor;
 import ssafy.ddada.domain.match.repository.*;
 import ssafy.ddada.domain.member.common.Gender;
 import ssafy.ddada.domain.member.gymadmin.entity.GymAdmin;
@@ -42,12 +57,17 @@ import ssafy.ddada.domain.member.manager.entity.Manager;
 import ssafy.ddada.domain.member.manager.repository.ManagerRepository;
 import ssafy.ddada.domain.member.player.repository.PlayerRepository;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import static ssafy.ddada.common.util.ParameterUtil.nullToZero;
+import static ssafy.ddada.common.util.ParameterUtil.*;
 
 @Slf4j
 @Service
@@ -55,41 +75,155 @@ import static ssafy.ddada.common.util.ParameterUtil.nullToZero;
 @Transactional(readOnly = true)
 public class MatchServiceImpl implements MatchService {
 
+    private static final int MAX_CONFLICT_ATTEMPTS = 5;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Map<String, String> MATCH_DOCUMENT_SORT_FIELDS = Map.of(
+            "id", "matchId",
+            "matchDate", "matchDate",
+            "matchTime", "matchTime"
+    );
+    private static final long CONFLICT_BACKOFF_MILLIS = 10;
+
     private final MatchRepository matchRepository;
     private final SetRepository setRepository;
-    private final ScoreRepository scoreRepository;
+    private final ScoreBulkRepository scoreBulkRepository;
     private final TeamRepository teamRepository;
     private final PlayerRepository playerRepository;
     private final ManagerRepository managerRepository;
     private final GymAdminRepository gymAdminRepository;
+    private final GymDailyStatsRepository gymDailyStatsRepository;
     private final CourtRepository courtRepository;
     private final RatingChangeRepository ratingChangeRepository;
+    private final MatchAnalysisOutboxRepository matchAnalysisOutboxRepository;
+    private final MatchParticipantRepository matchParticipantRepository;
+    private final PlayerMatchRecordRepository playerMatchRecordRepository;
+    private final CourtSlotRepository courtSlotRepository;
+    private final CourtAvailabilityCache courtAvailabilityCache;
+    private final PlayerMatchAnalyticsCache playerMatchAnalyticsCache;
 
     private final RatingUtil ratingUtil;
     private final S3Util s3Util;
     private final RankingUtil rankingUtil;
-
-    private final WebClient webClient;
-    private final WebClientProperties webClientProperties;
+    private final MatchIndexService matchIndexService;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public Page<MatchSimpleResponse> getFilteredMatches(MatchSearchCommand command) {
         log.info("[MatchService] 경기 리스트 조회");
         Long memberId = SecurityUtil.getLoginMemberId().orElse(null);
-        Page<Match> matchPage = matchRepository.findMatchesByKeywordAndTypeAndStatus(
+        Page<Match> matchPage = isEmptyString(command.keyword())
+                ? matchRepository.findMatchesByKeywordAndTypeAndStatus(
+                        null,
+                        command.rankType(),
+                        command.matchTypes(),
+                        command.statuses(),
+                        command.region(),
+                        command.pageable()
+                )
+                : searchMatchesByElastic(command);
+
+        return matchPage.map(match -> MatchSimpleResponse.from(
+                match,
+                isReserved(match, memberId),
+                s3Util.getPresignedUrlFromS3(match.getCourt().getGym().getImage()))
+        );
+    }
+
+    // 키워드 검색은 ES match 인덱스(nori)에서 ID 페이지만 가져오고, 해당 ID만 DB에서 조회
+    private Page<Match> searchMatchesByElastic(MatchSearchCommand command) {
+        Pageable pageable = PageRequest.of(
+                command.pageable().getPageNumber(),
+                command.pageable().getPageSize(),
+                toMatchDocumentSort(command.pageable().getSort())
+        );
+        SearchHits<MatchDocument> matchDocuments = elasticsearchOperations.search(
+                generateMatchQuery(command, pageable),
+                MatchDocument.class
+        );
+        List<Long> matchIds = matchDocuments
+                .map(searchHit -> searchHit.getContent().getMatchId())
+                .toList();
+
+        Map<Long, Match> matchesById = matchRepository.findAllByIdsWithCourtAndTeams(matchIds)
+                .stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+        List<Match> matches = matchIds.stream()
+                .map(matchesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(matches, command.pageable(), matchDocuments.getTotalHits());
+    }
+
+    // DB 조회와 같은 순서가 되도록 엔티티 정렬 속성을 ES 문서 필드로 변환하고, 동일 값은 matchId로 정렬
+    private Sort toMatchDocumentSort(Sort sort) {
+        List<Sort.Order> orders = sort.stream()
+                .filter(order -> MATCH_DOCUMENT_SORT_FIELDS.containsKey(order.getProperty()))
+                .map(order -> new Sort.Order(order.getDirection(), MATCH_DOCUMENT_SORT_FIELDS.get(order.getProperty())))
+                .toList();
+        boolean sortedByMatchId = orders.stream()
+                .anyMatch(order -> order.getProperty().equals("matchId"));
+        return sortedByMatchId
+                ? Sort.by(orders)
+                : Sort.by(orders).and(Sort.by("matchId").descending());
+    }
+
+    private CriteriaQuery generateMatchQuery(MatchSearchCommand command, Pageable pageable) {
+        String keyword = command.keyword();
+        Criteria criteria = new Criteria().subCriteria(
+                new Criteria("gymName").matches(keyword)
+                        .or("gymAddress").matches(keyword)
+        );
+
+        if (command.rankType() != null) {
+            criteria = criteria.and("rankType").is(command.rankType().name());
+        }
+        if (!isEmptySet(command.matchTypes())) {
+            criteria = criteria.and("matchType").in(command.matchTypes().stream().map(Enum::name).toList());
+        }
+        if (!isEmptySet(command.statuses())) {
+            criteria = criteria.and("status").in(command.statuses().stream().map(Enum::name).toList());
+        }
+        if (!isEmptySet(command.region())) {
+            criteria = criteria.and("gymRegion").in(command.region().stream().map(Enum::name).toList());
+        }
+        return new CriteriaQuery(criteria).setPageable(pageable);
+    }
+
+    @Override
+    public MatchCursorResponse getFilteredMatchesByCursor(MatchCursorSearchCommand command) {
+        log.info("[MatchService] 경기 리스트 커서 조회");
+        Long memberId = SecurityUtil.getLoginMemberId().orElse(null);
+        MatchCursor cursor = command.cursor();
+        // 0 이하나 지나치게 큰 페이지 크기로 빈 페이지 또는 과도한 조회가 발생하지 않도록 범위를 제한
+        int size = Math.min(Math.max(command.size(), 1), MAX_CURSOR_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        List<Match> matches = matchRepository.findMatchesByKeywordAndTypeAndStatusAfterCursor(
                 command.keyword(),
                 command.rankType(),
                 command.matchTypes(),
                 command.statuses(),
                 command.region(),
-                command.pageable()
+                cursor.matchDate(),
+                cursor.matchTime(),
+                cursor.id(),
+                Limit.of(size + 1)
         );
 
-        return matchPage.map(match -> MatchSimpleResponse.from(
-                match,
-                isReserved(match, memberId),
-                s3Util.getPresignedUrlFromS3(match.getCourt().getGym().getImage()))
-        );
+        boolean hasNext = matches.size() > size;
+        List<Match> page = hasNext ? matches.subList(0, size) : matches;
+        String nextCursor = hasNext ? MatchCursor.from(page.get(page.size() - 1)).encode() : null;
+
+        List<MatchSimpleResponse> responses = page.stream()
+                .map(match -> MatchSimpleResponse.from(
+                        match,
+                        isReserved(match, memberId),
+                        s3Util.getPresignedUrlFromS3(match.getCourt().getGym().getImage()))
+                )
+                .toList();
+        return MatchCursorResponse.of(responses, nextCursor);
     }
 
     private boolean isReserved(Match match, Long memberId) {
@@ -128,8 +262,15 @@ public class MatchServiceImpl implements MatchService {
         if (command.status() == MatchStatus.PLAYING && match.getStatus() != MatchStatus.RESERVED){
             throw new InvalidMatchStatusException();
         }
+        // 취소된 경기는 코트를 반환하고, 취소가 해제되면 다시 점유
+        if (command.status() == MatchStatus.CANCELED && match.getStatus() != MatchStatus.CANCELED) {
+            releaseCourtSlot(match);
+        } else if (command.status() != MatchStatus.CANCELED && match.getStatus() == MatchStatus.CANCELED) {
+            claimCourtSlot(match);
+        }
         match.setStatus(command.status());
         match = matchRepository.save(match);
+        matchIndexService.indexAfterCommit(match);
         log.info("[MatchService] 경기 상태 변경 성공 >>>> 변경된 경기 상태: {}", match.getStatus());
     }
 
@@ -184,10 +325,16 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void setTeamPlayer(Long matchId, Integer teamNumber) {
         log.info("[MatchService] 선수를 팀에 배치 >>>> 경기 ID: {}, 배치할 팀 번호: {}", matchId, teamNumber);
-        Match match = matchRepository.findByIdWithTeams(matchId)
+        Long playerId = SecurityUtil.getLoginMemberId()
+                .orElseThrow(NotAuthenticatedException::new);
+        executeWithConflictRetry(() -> claimSeat(matchId, teamNumber, playerId));
+    }
+
+    private void claimSeat(Long matchId, Integer teamNumber, Long playerId) {
+        Match match = matchRepository.findByIdWithTeamsForSeatChange(matchId)
                 .orElseThrow(TeamNotFoundException::new);
 
         // 모집 안된 경기만 선수 등록 가능
@@ -195,19 +342,17 @@ public class MatchServiceImpl implements MatchService {
             throw new TeamFullException();
         }
 
-        Long playerId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(NotAuthenticatedException::new);
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(MemberNotFoundException::new);
 
         // 같은 시간에 이미 경기가 있는지 확인
-        int conflictCount = matchRepository.countByPlayerAndDateTime(player.getId(), match.getMatchDate(), match.getMatchTime());
-        if (conflictCount > 0) {
+        if (matchParticipantRepository.existsByPlayerAndDateTime(player.getId(), match.getMatchDate(), match.getMatchTime())) {
             throw new PlayerAlreadyBookedException();
         }
 
         Team team = getTeamByTeamNumber(match, teamNumber);
-        allocatePlayerToTeam(match, team, player);
+        int slotNumber = allocatePlayerToTeam(match, team, player);
+        saveParticipant(match, player, teamNumber, slotNumber);
 
         // 경기 모집 완료 시 경기 상태 변경
         updateTeam(team);
@@ -216,25 +361,66 @@ public class MatchServiceImpl implements MatchService {
         }
 
         teamRepository.save(team);
+        matchIndexService.indexAfterCommit(match);
     }
 
-    private void allocatePlayerToTeam(Match match, Team team, Player player){
+    // 선수를 배치하고 배치된 자리 번호(1, 2)를 반환
+    private int allocatePlayerToTeam(Match match, Team team, Player player){
         switch (team.getPlayerCount()) {
-            case 0 -> team.setPlayer1(player);
+            case 0 -> {
+                team.setPlayer1(player);
+                return 1;
+            }
             case 1 -> {
                 if (team.getPlayer1() != null) {
                     validateGender(match, team.getPlayer1(), player);
                     team.setPlayer2(player);
-                } else {
-                    validateGender(match, team.getPlayer2(), player);
-                    team.setPlayer1(player);
+                    return 2;
                 }
+                validateGender(match, team.getPlayer2(), player);
+                team.setPlayer1(player);
+                return 1;
             }
             case 2 -> throw new TeamFullException();
             default -> throw new InvalidTeamNumberException();
         }
     }
 
+    // 같은 코트의 같은 시간대 예약은 유니크 제약으로 거부됨 (동시 요청 대비)
+    private void claimCourtSlot(Match match) {
+        if (match.getMatchTime() == null) {
+            return;
+        }
+        try {
+            courtSlotRepository.saveAndFlush(CourtSlot.of(
+                    match.getCourt().getId(),
+                    match.getMatchDate(),
+                    match.getMatchTime(),
+                    match.getId()
+            ));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[MatchService] 코트 중복 예약 거부 >>>> 코트 ID: {}, 날짜: {}, 시간: {}",
+                    match.getCourt().getId(), match.getMatchDate(), match.getMatchTime());
+            throw new CourtAlreadyBookedException();
+        }
+        courtAvailabilityCache.evictAfterCommit(match.getCourt().getId());
+    }
+
+    private void releaseCourtSlot(Match match) {
+        courtSlotRepository.deleteByMatchIds(List.of(match.getId()));
+        courtAvailabilityCache.evictAfterCommit(match.getCourt().getId());
+    }
+
+    // 같은 선수의 같은 시간대 참가는 유니크 제약으로 거부됨 (동시 요청 대비)
+    private void saveParticipant(Match match, Player player, Integer teamNumber, Integer slotNumber) {
+        try {
+            matchParticipantRepository.saveAndFlush(MatchParticipant.of(match, player, teamNumber, slotNumber));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[MatchService] 중복 예약 거부 >>>> 선수 ID: {}, 경기 ID: {}", player.getId(), match.getId());
+            throw new PlayerAlreadyBookedException();
+        }
+    }
+
     private void validateGender(Match match, Player player1, Player player2) {
         switch (match.getMatchType()) {
             case FEMALE_DOUBLE -> {
@@ -256,10 +442,16 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void unsetTeamPlayer(Long matchId, Integer teamNumber) {
         log.info("[MatchService] 선수를 팀에서 제외 >>>> 경기 ID: {}, 팀 번호: {}", matchId, teamNumber);
-        Match match = matchRepository.findByIdWithTeams(matchId)
+        Long playerId = SecurityUtil.getLoginMemberId()
+                .orElseThrow(NotAuthenticatedException::new);
+        executeWithConflictRetry(() -> releaseSeat(matchId, teamNumber, playerId));
+    }
+
+    private void releaseSeat(Long matchId, Integer teamNumber, Long playerId) {
+        Match match = matchRepository.findByIdWithTeamsForSeatChange(matchId)
                 .orElseThrow(TeamNotFoundException::new);
 
         // 비어있지 않은 경기만 선수 제외 가능
@@ -267,8 +459,6 @@ public class MatchServiceImpl implements MatchService {
             throw new InvalidTeamNumberException();
         }
 
-        Long playerId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(NotAuthenticatedException::new);
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(MemberNotFoundException::new);
 
@@ -281,6 +471,7 @@ public class MatchServiceImpl implements MatchService {
         } else {
             throw new TeamPlayerNotFoundException();
         }
+        matchParticipantRepository.deleteByMatchIdAndPlayerId(match.getId(), player.getId());
 
         // 모집 완료된 경기에서 선수 취소 시 경기 상태 변경
         if (match.getStatus() == MatchStatus.RESERVED) {
@@ -290,8 +481,13 @@ public class MatchServiceImpl implements MatchService {
         teamRepository.save(team);
 
         if (isMatchEmpty(match)){
+            matchParticipantRepository.deleteByMatchId(match.getId());
+            releaseCourtSlot(match);
             matchRepository.delete(match);
+            matchIndexService.deleteAfterCommit(match.getId());
+            return;
         }
+        matchIndexService.indexAfterCommit(match);
     }
 
     @Override
@@ -301,8 +497,7 @@ public class MatchServiceImpl implements MatchService {
         Long creatorId = SecurityUtil.getLoginMemberId()
                 .orElseThrow(NotAuthenticatedException::new);
 
-        int conflictCount = matchRepository.countByPlayerAndDateTime(creatorId, command.matchDate(), command.matchTime());
-        if (conflictCount > 0) {
+        if (matchParticipantRepository.existsByPlayerAndDateTime(creatorId, command.matchDate(), command.matchTime())) {
             throw new PlayerAlreadyBookedException();
         }
 
@@ -310,6 +505,10 @@ public class MatchServiceImpl implements MatchService {
                 .orElseThrow(MemberNotFoundException::new);
         Court court = courtRepository.findById(command.courtId())
                 .orElseThrow(CourtNotFoundException::new);
+        if (command.matchTime() != null &&
+                courtSlotRepository.existsByCourtAndDateTime(court.getId(), command.matchDate(), command.matchTime())) {
+            throw new CourtAlreadyBookedException();
+        }
         Team team1 = teamRepository.save(
                 Team.builder()
                         .player1(creator)
@@ -331,6 +530,9 @@ public class MatchServiceImpl implements MatchService {
                 .build();
 
         matchRepository.save(match);
+        claimCourtSlot(match);
+        saveParticipant(match, creator, 1, 1);
+        matchIndexService.indexAfterCommit(match);
     }
 
     @Override
@@ -353,17 +555,21 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void allocateManager(Long matchId) {
         log.info("[MatchService] 매니저 할당");
-        Match match = matchRepository.findById(matchId)
+        Long managerId = SecurityUtil.getLoginMemberId()
+                .orElseThrow(NotAuthenticatedException::new);
+        executeWithConflictRetry(() -> claimManager(matchId, managerId));
+    }
+
+    private void claimManager(Long matchId, Long managerId) {
+        Match match = matchRepository.findByIdWithTeamsForSeatChange(matchId)
                 .orElseThrow(MatchNotFoundException::new);
         if (match.getManager() != null) {
             throw new ManagerAlreadyExistException();
         }
 
-        Long managerId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(NotAuthenticatedException::new);
         int conflictCount = matchRepository.countByManagerAndDateTime(managerId, match.getMatchDate(), match.getMatchTime());
         if (conflictCount > 0) {
             throw new ManagerAlreadyBookedException();
@@ -377,20 +583,25 @@ public class MatchServiceImpl implements MatchService {
             match.setStatus(MatchStatus.RESERVED);
         }
         matchRepository.save(match);
+        matchIndexService.indexAfterCommit(match);
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deallocateManager(Long matchId) {
         log.info("[MatchService] 매니저 할당 해제 >>>> 경기 ID: {}", matchId);
-        Match match = matchRepository.findById(matchId)
+        Long managerId = SecurityUtil.getLoginMemberId()
+                .orElseThrow(NotAuthenticatedException::new);
+        executeWithConflictRetry(() -> releaseManager(matchId, managerId));
+    }
+
+    private void releaseManager(Long matchId, Long managerId) {
+        Match match = matchRepository.findByIdWithTeamsForSeatChange(matchId)
                 .orElseThrow(MatchNotFoundException::new);
         if (match.getManager() == null) {
             throw new ManagerNotFoundException();
         }
 
-        Long managerId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(NotAuthenticatedException::new);
         if (!Objects.equals(match.getManager().getId(), managerId)) {
             throw new UnauthorizedManagerException();
         }
@@ -400,6 +611,36 @@ public class MatchServiceImpl implements MatchService {
             match.setStatus(MatchStatus.CREATED);
         }
         matchRepository.save(match);
+        matchIndexService.indexAfterCommit(match);
+    }
+
+    /**
+     * 같은 경기를 동시에 수정해 낙관적 락 충돌이 나면 새 트랜잭션에서 최신 상태로 다시 시도합니다.
+     * 재시도 시에는 이미 찬 좌석, 배정된 매니저 등이 검증 단계에서 정상적인 예외로 처리됩니다.
+     */
+    private void executeWithConflictRetry(Runnable action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> action.run());
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CONFLICT_ATTEMPTS) {
+                    log.warn("[MatchService] 동시 수정 재시도 초과 >>>> 시도 횟수: {}", attempt);
+                    throw new MatchConcurrentUpdateException();
+                }
+                log.debug("[MatchService] 동시 수정 충돌, 재시도 >>>> 시도 횟수: {}", attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(CONFLICT_BACKOFF_MILLIS, CONFLICT_BACKOFF_MILLIS * 2) * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MatchConcurrentUpdateException();
+        }
     }
 
     @Override
@@ -407,6 +648,8 @@ public class MatchServiceImpl implements MatchService {
     public void saveMatch(Long matchId, MatchResultCommand matchCommand) {
         log.info("[MatchService] 경기 저장 >>>> 경기 ID: {}", matchId);
         Match match = getValidatedMatch(matchId);
+        // 경기 중 상태에서는 결과를 다시 저장할 수 있으므로, 처음 결과가 기록될 때만 일자별 통계에 반영
+        boolean firstResult = match.getWinnerTeamNumber() == null;
         saveMatchResult(match, matchCommand);
 
         int winTeamNumber = match.getWinnerTeamNumber();
@@ -416,32 +659,26 @@ public class MatchServiceImpl implements MatchService {
         int loseTeamTotalScore = getTotalTeamScore(matchCommand, loseTeamNumber);
 
         // 팀 플레이어 점수 계산
-        updatePlayersRatings(match, matchCommand, loseTeamTotalScore, winTeamTotalScore, true);
-        updatePlayersRatings(match, matchCommand, loseTeamTotalScore, winTeamTotalScore, false);
+        List<Player> ratedPlayers = new ArrayList<>();
+        ratedPlayers.addAll(updatePlayersRatings(match, matchCommand, loseTeamTotalScore, winTeamTotalScore, true));
+        ratedPlayers.addAll(updatePlayersRatings(match, matchCommand, loseTeamTotalScore, winTeamTotalScore, false));
+        rankingUtil.updatePlayerRatings(ratedPlayers);
 
         updateGymIncome(match);
-    }
-    @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveMatchAnalysisData(Long matchId)
-    {
-        String requestUrl = webClientProperties.url() + "add_match_analysis/" + matchId + "/";
-        log.info("requestUrl {}", requestUrl);
-
-        // 동기적으로 응답을 받음
-        webClient.post()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToMono(String.class)
-                .block();  // 동기 처리로 변환
+        if (firstResult) {
+            recordGymDailyStats(match);
+        }
+        enqueueMatchAnalysis(matchId);
     }
 
+    private void enqueueMatchAnalysis(Long matchId) {
+        MatchAnalysisOutbox outbox = matchAnalysisOutboxRepository.findByMatchId(matchId)
+                .orElseGet(() -> MatchAnalysisOutbox.pending(matchId));
+        outbox.reset();
+        matchAnalysisOutboxRepository.save(outbox);
+        // 재저장된 경기는 분석 결과가 바뀌므로 커밋 후 기존 캐시를 제거
+        playerMatchAnalyticsCache.evictAfterCommit(matchId);
+    }
     private Match getValidatedMatch(Long matchId){
         Match match = matchRepository.findByIdWithInfos(matchId)
                 .orElseThrow(MatchNotFoundException::new);
@@ -460,45 +697,40 @@ public class MatchServiceImpl implements MatchService {
     }
 
     private void saveMatchResult(Match match, MatchResultCommand matchCommand) {
-        Match newMatch = Match.builder()
-                .id(match.getId())
-                .court(match.getCourt())
-                .team1(match.getTeam1())
-                .team2(match.getTeam2())
-                .manager(match.getManager())
-                .status(match.getStatus())
-                .rankType(match.getRankType())
-                .matchType(match.getMatchType())
-                .matchDate(match.getMatchDate())
-                .matchTime(match.getMatchTime())
-                .winnerTeamNumber(matchCommand.winnerTeamNumber())
-                .team1SetScore(matchCommand.team1SetScore())
-                .team2SetScore(matchCommand.team2SetScore())
-                .build();
-
-        newMatch = matchRepository.save(newMatch);
-        for (SetResultCommand setCommand : matchCommand.sets()){
-            saveSetResult(newMatch, setCommand);
-        }
-    }
-
-    private void saveSetResult(Match match, SetResultCommand setCommand) {
-        Set newSet = Set.builder()
-                .match(match)
-                .setNumber(setCommand.setNumber())
-                .setWinnerTeamNumber(setCommand.setWinnerTeamNumber())
-                .team1Score(setCommand.team1Score())
-                .team2Score(setCommand.team2Score())
-                .build();
+        match.recordResult(
+                matchCommand.winnerTeamNumber(),
+                matchCommand.team1SetScore(),
+                matchCommand.team2SetScore()
+        );
+        matchIndexService.indexAfterCommit(match);
+        saveSetResults(match, matchCommand.sets());
+    }
+
+    private void saveSetResults(Match match, List<SetResultCommand> setCommands) {
+        List<Set> newSets = setRepository.saveAll(
+                setCommands.stream()
+                        .map(setCommand -> Set.builder()
+                                .match(match)
+                                .setNumber(setCommand.setNumber())
+                                .setWinnerTeamNumber(setCommand.setWinnerTeamNumber())
+                                .team1Score(setCommand.team1Score())
+                                .team2Score(setCommand.team2Score())
+                                .build())
+                        .toList()
+        );
 
-        newSet = setRepository.save(newSet);
-        for (ScoreResultCommand scoreCommand : setCommand.scores()){
-            saveScoreResult(newSet, scoreCommand);
+        List<Score> newScores = new ArrayList<>();
+        for (int i = 0; i < newSets.size(); i++) {
+            Set newSet = newSets.get(i);
+            for (ScoreResultCommand scoreCommand : setCommands.get(i).scores()) {
+                newScores.add(createScore(newSet, scoreCommand));
+            }
         }
+        scoreBulkRepository.saveAllInBatch(newScores);
     }
 
-    private void saveScoreResult(Set set, ScoreResultCommand scoreCommand) {
-        Score newScore = Score.builder()
+    private Score createScore(Set set, ScoreResultCommand scoreCommand) {
+        return Score.builder()
                 .set(set)
                 .scoreNumber(scoreCommand.scoreNumber())
                 .earnedPlayer(scoreCommand.earnedPlayerNumber())
@@ -507,8 +739,6 @@ public class MatchServiceImpl implements MatchService {
                 .earnedType(scoreCommand.earnedType())
                 .missedType(scoreCommand.missedType())
                 .build();
-
-        scoreRepository.save(newScore);
     }
 
     private Team getTeamByTeamNumber(Match match, Integer teamNumber){
@@ -534,7 +764,7 @@ public class MatchServiceImpl implements MatchService {
                 .sum();
     }
 
-    private void updatePlayersRatings(Match match, MatchResultCommand matchCommand, int loseTeamTotalScore, int winTeamTotalScore, boolean isWin) {
+    private List<Player> updatePlayersRatings(Match match, MatchResultCommand matchCommand, int loseTeamTotalScore, int winTeamTotalScore, boolean isWin) {
         int teamNumber = isWin ? match.getWinnerTeamNumber() : 3 - match.getWinnerTeamNumber();
         Team team = getTeamByTeamNumber(match, teamNumber);
 
@@ -542,7 +772,8 @@ public class MatchServiceImpl implements MatchService {
         int oppositeTeamRating = RatingUtil.calculateTeamRating(oppositeTeam.getPlayers());
 
         for (Player player : team.getPlayers()) {
-            player.incrementStreak(isWin);
+            player.recordMatchResult(isWin);
+            playerMatchRecordRepository.addResult(player.getId(), match.getMatchType().name(), isWin ? 1 : 0, isWin ? 0 : 1);
             List<Integer> playerScoreList = calculatePlayerMatchStats(match, player, matchCommand);
             double earnedRate = winTeamTotalScore == 0 ? 0.5 : (double) playerScoreList.get(0) / winTeamTotalScore;
             double missedRate = loseTeamTotalScore == 0 ? 0.5 : (double) playerScoreList.get(1) / loseTeamTotalScore;
@@ -585,8 +816,8 @@ public class MatchServiceImpl implements MatchService {
             player.setGameCount(player.getGameCount() + 1);
 
             playerRepository.save(player);
-            rankingUtil.updatePlayerRating(player);
         }
+        return team.getPlayers();
     }
 
     private List<Integer> calculatePlayerMatchStats(Match match, Player player, MatchResultCommand matchResultCommand) {
@@ -627,12 +858,25 @@ public class MatchServiceImpl implements MatchService {
         gymAdminRepository.save(gymAdmin);
     }
 
+    // 대시보드가 경기 테이블을 집계하지 않도록 체육관 일자별 통계에 결과가 기록된 경기를 증분 반영 (백필과 같은 기준)
+    private void recordGymDailyStats(Match match) {
+        if (match.getMatchTime() == null) {
+            log.warn("[MatchService] 경기 시간이 없어 체육관 통계 반영 생략 >>>> 경기 ID: {}", match.getId());
+            return;
+        }
+        gymDailyStatsRepository.addFinishedMatch(
+                match.getCourt().getGym().getId(),
+                match.getMatchDate(),
+                match.getMatchTime().getHour(),
+                COURT.DEFAULT_PRICE
+        );
+    }
+
     @Override
     public boolean CheckPlayerBooked(CheckPlayerBookedCommand command) {
         log.info("[MatchService] 선수 예약 여부 확인");
         Long playerId = SecurityUtil.getLoginMemberId().orElseThrow(GymAdminNotFoundException::new);
-        int conflictCount = matchRepository.countByPlayerAndDateTime(playerId, command.matchDate(), command.matchTime());
-        if (conflictCount > 0) {
+        if (matchParticipantRepository.existsByPlayerAndDateTime(playerId, command.matchDate(), command.matchTime())) {
             throw new PlayerAlreadyBookedException();
         }
         return true;
@@ -652,20 +896,4 @@ public class MatchServiceImpl implements MatchService {
         }
         return s3Util.getPresignedUrlFromS3(player.getImage());
     }
-
-    private void savedMatchAnalysis(Long matchId) {
-        String requestUrl = webClientProperties.url() + "add_match_analysis/" + matchId + "/";
-
-        webClient.post()
-                .uri(requestUrl)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .defaultIfEmpty("Unknown error")
-                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
-                )
-                .bodyToMono(String.class)
-                .block();  // 동기 처리로 변환
-    }
 }
\ No newline at end of file
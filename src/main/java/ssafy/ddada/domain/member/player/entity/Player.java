@@ -54,6 +54,12 @@ public class Player extends BaseMemberEntity implements Member {
 
     private int gameCount;
 
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int winCount;
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int loseCount;
+
     @OneToMany(mappedBy = "player", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PasswordHistory> passwordHistories = new ArrayList<>();
 
@@ -139,7 +145,17 @@ public class Player extends BaseMemberEntity implements Member {
         }
     }
 
-    public void incrementStreak(boolean isWin) {
+    // 경기 결과를 연승/연패와 누적 승패 카운터에 함께 반영
+    public void recordMatchResult(boolean isWin) {
+        incrementStreak(isWin);
+        if (isWin) {
+            this.winCount++;
+        } else {
+            this.loseCount++;
+        }
+    }
+
+    private void incrementStreak(boolean isWin) {
         if (isWin) {
             this.winStreak++;
             this.loseStreak = 0; // 연승이 계속되면 연패는 초기화
@@ -0,0 +1,10 @@
+package ssafy.ddada.domain.member.player.model;
+
+/**
+ * 영구 삭제 대상 선수의 ID와 프로필 이미지 경로. 엔티티를 로딩하지 않고 삭제와 S3 정리에 필요한 값만 조회합니다.
+ */
+public record PlayerPurgeTarget(
+        Long playerId,
+        String image
+) {
+}
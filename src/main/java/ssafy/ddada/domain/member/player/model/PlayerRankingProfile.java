@@ -0,0 +1,12 @@
+package ssafy.ddada.domain.member.player.model;
+
+/**
+ * 랭킹 화면에 필요한 선수 메타데이터. 한 페이지의 선수들을 IN 쿼리 한 번으로 조회할 때 사용합니다.
+ */
+public record PlayerRankingProfile(
+        Long playerId,
+        String nickname,
+        Integer gameCount,
+        String image
+) {
+}
@@ -0,0 +1,10 @@
+package ssafy.ddada.domain.member.player.model;
+
+/**
+ * 랭킹 ZSet과 DB를 대조할 때 사용하는 선수 ID와 rating 쌍.
+ */
+public record PlayerRatingEntry(
+        Long playerId,
+        Integer rating
+) {
+}
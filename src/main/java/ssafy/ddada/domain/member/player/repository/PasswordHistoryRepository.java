@@ -0,0 +1,22 @@
+package ssafy.ddada.domain.member.player.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ssafy.ddada.domain.member.player.entity.PasswordHistory;
+
+import java.util.Collection;
+
+@Repository
+public interface PasswordHistoryRepository extends JpaRepository<PasswordHistory, Long> {
+
+    @Modifying
+    @Query("""
+        DELETE FROM PasswordHistory ph
+        WHERE ph.player.id IN :playerIds
+    """)
+    int deleteByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
+
+}
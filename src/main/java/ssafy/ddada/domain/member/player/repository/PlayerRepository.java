@@ -1,12 +1,18 @@
 package ssafy.ddada.domain.member.player.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import ssafy.ddada.domain.match.entity.RatingChange;
 import ssafy.ddada.domain.member.player.entity.Player;
+import ssafy.ddada.domain.member.player.model.PlayerPurgeTarget;
+import ssafy.ddada.domain.member.player.model.PlayerRankingProfile;
+import ssafy.ddada.domain.member.player.model.PlayerRatingEntry;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,43 +36,61 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     Optional<Player> findNotDeletedPlayerByEmail(@Param("email") String email);
 
     @Query("""
-        SELECT COUNT(m)
-        FROM Match m
-        WHERE (m.winnerTeamNumber = 1 AND :playerId IN (m.team1.player1.id , m.team1.player2.id)) OR
-            (m.winnerTeamNumber = 2 AND :playerId IN (m.team2.player1.id, m.team2.player2.id))
+        SELECT new ssafy.ddada.domain.member.player.model.PlayerPurgeTarget(p.id, p.image)
+        FROM Player p
+        WHERE p.id > :lastId AND
+            p.isDeleted = true AND
+            p.updatedAt < :deletedBefore
+        ORDER BY p.id
     """)
-    Integer countWinsByPlayerId(@Param("playerId") Long playerId);
+    List<PlayerPurgeTarget> findPurgeTargetsAfterId(
+            @Param("lastId") Long lastId,
+            @Param("deletedBefore") LocalDateTime deletedBefore,
+            Limit limit
+    );
+
+    // 조회 이후 복구되었거나 다시 탈퇴한 선수를 제외하고, 삭제가 커밋될 때까지 다른 변경을 막도록 잠금과 함께 다시 조회
+    @Query(value = """
+        SELECT p.player_id
+        FROM player p
+        WHERE p.player_id IN (:playerIds) AND
+            p.is_deleted = true AND
+            p.updated_at < :deletedBefore
+        ORDER BY p.player_id
+        FOR UPDATE
+    """, nativeQuery = true)
+    List<Long> lockPurgeTargets(
+            @Param("playerIds") Collection<Long> playerIds,
+            @Param("deletedBefore") LocalDateTime deletedBefore
+    );
 
+    @Modifying
     @Query("""
-        SELECT COUNT(m)
-        FROM Match m
-        WHERE (m.winnerTeamNumber = 2 AND :playerId IN (m.team1.player1.id, m.team1.player2.id)) OR
-            (m.winnerTeamNumber = 1 AND :playerId IN (m.team2.player1.id, m.team2.player2.id))
+        DELETE FROM Player p
+        WHERE p.id IN :playerIds AND
+            p.isDeleted = true
     """)
-    Integer countLossesByPlayerId(@Param("playerId") Long playerId);
+    int deleteDeletedPlayersByIds(@Param("playerIds") Collection<Long> playerIds);
 
     @Query("""
-        SELECT rc
-        FROM RatingChange rc
-        WHERE rc.player.id = :playerId AND
-            rc.match.id = :matchId
+        SELECT new ssafy.ddada.domain.member.player.model.PlayerRatingEntry(p.id, p.rating)
+        FROM Player p
+        WHERE p.id > :lastId AND p.isDeleted = false AND p.rating IS NOT NULL
+        ORDER BY p.id
     """)
-    RatingChange findFirstByPlayerIdAndMatchId(@Param("playerId") Long playerId, @Param("matchId") Long matchId);
+    List<PlayerRatingEntry> findRatingEntriesAfterId(@Param("lastId") Long lastId, Limit limit);
 
     @Query("""
-        SELECT COUNT(rc)
-        FROM RatingChange rc
-        WHERE rc.player.id = :playerId
+        SELECT p.id
+        FROM Player p
+        WHERE p.id IN :playerIds AND p.isDeleted = false AND p.rating IS NOT NULL
     """)
-    Integer countMatchesByPlayerId(@Param("playerId") Long playerId);
+    List<Long> findRankedPlayerIds(@Param("playerIds") Collection<Long> playerIds);
 
     @Query("""
-        SELECT p
+        SELECT new ssafy.ddada.domain.member.player.model.PlayerRankingProfile(p.id, p.nickname, p.gameCount, p.image)
         FROM Player p
-        WHERE p.isDeleted = true AND p.updatedAt < CURRENT_DATE - 1 MONTH
+        WHERE p.id IN :playerIds AND p.isDeleted = false
     """)
-    List<Player> findDeletedPlayers();
-
-    @Query("SELECT p.gameCount FROM Player p WHERE p.nickname = :nickname")
-    Optional<Integer> findGameCountByNickname(String nickname);
+    List<PlayerRankingProfile> findRankingProfilesByIds(@Param("playerIds") Collection<Long> playerIds);
 }
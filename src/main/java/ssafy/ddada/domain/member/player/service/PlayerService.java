@@ -17,7 +17,8 @@ public interface PlayerService {
     void updateMemberPassword(PasswordUpdateCommand command);
     List<PlayerMatchResponse> getPlayerMatches();
     List<PlayerMatchResponse> getPlayerCompleteMatches();
+    PlayerMatchCursorResponse getPlayerMatchFeed(boolean finishedOnly, String cursor, int size);
     PlayerIdResponse getPlayerId();
     PlayerTotalMatchResponse getPlayerTotalMatch();
-    PlayerRankingResponse getPlayersRanking();
+    PlayerRankingResponse getPlayersRanking(int page, int size);
 }
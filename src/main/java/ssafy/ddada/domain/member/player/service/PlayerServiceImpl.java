@@ -2,6 +2,7 @@ package ssafy.ddada.domain.member.player.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -16,13 +17,14 @@ import ssafy.ddada.common.util.RankingUtil;
 import ssafy.ddada.common.util.S3Util;
 import ssafy.ddada.common.util.SecurityUtil;
 import ssafy.ddada.common.util.JwtProcessor;
-import ssafy.ddada.domain.match.entity.Match;
-import ssafy.ddada.domain.match.entity.RatingChange;
-import ssafy.ddada.domain.match.entity.Team;
-import ssafy.ddada.domain.match.repository.MatchRepository;
+import ssafy.ddada.domain.match.model.MatchCursor;
+import ssafy.ddada.domain.match.model.PlayerMatchRow;
+import ssafy.ddada.domain.match.repository.MatchParticipantRepository;
+import ssafy.ddada.domain.match.repository.PlayerMatchRecordRepository;
 import ssafy.ddada.domain.member.player.command.*;
 import ssafy.ddada.domain.member.player.entity.PasswordHistory;
 import ssafy.ddada.domain.member.player.entity.Player;
+import ssafy.ddada.domain.member.player.model.PlayerRankingProfile;
 import ssafy.ddada.domain.member.player.repository.PlayerRepository;
 
 import java.util.*;
@@ -37,9 +39,14 @@ public class PlayerServiceImpl implements PlayerService {
     private final JwtProcessor jwtProcessor;
     private final PasswordEncoder passwordEncoder;
     private final S3Util s3Util;
-    private final MatchRepository matchRepository;
+    private final MatchParticipantRepository matchParticipantRepository;
+    private final PlayerMatchRecordRepository playerMatchRecordRepository;
     private final RankingUtil rankingUtil;
 
+    private static final int MAX_RANKING_PAGE_SIZE = 100;
+    private static final int MAX_MATCH_FEED_PAGE_SIZE = 50;
+    private static final int NEARBY_RANKING_RADIUS = 2;
+
     @Override
     @Transactional
     public PlayerSignupResponse signupMember(MemberSignupCommand signupCommand) {
@@ -89,9 +96,6 @@ public class PlayerServiceImpl implements PlayerService {
         Player currentPlayer = getCurrentLoggedInMember();
         String preSignedProfileImage = generatePreSignedUrl(currentPlayer.getImage());
 
-        Integer wins = playerRepository.countWinsByPlayerId(currentPlayer.getId());
-        Integer losses = playerRepository.countLossesByPlayerId(currentPlayer.getId());
-
         return PlayerProfileDetailResponse.of(
                 preSignedProfileImage,
                 currentPlayer.getNickname(),
@@ -101,8 +105,9 @@ public class PlayerServiceImpl implements PlayerService {
                 currentPlayer.getNumber(),
                 currentPlayer.getEmail(),
                 currentPlayer.getDescription(),
-                wins,
-                losses
+                currentPlayer.getWinCount(),
+                currentPlayer.getLoseCount(),
+                playerMatchRecordRepository.findByPlayerId(currentPlayer.getId())
         );
     }
 
@@ -170,10 +175,9 @@ public class PlayerServiceImpl implements PlayerService {
     public List<PlayerMatchResponse> getPlayerMatches() {
         log.info("[PlayerService] 참여중인 경기 리스트 조회");
         Player currentPlayer = getCurrentLoggedInMember();
-        List<Match> matches = matchRepository.findMatchesByPlayerId(currentPlayer.getId());
-
-        return matches.stream()
-                .map(match -> createPlayerMatchResponse(match, currentPlayer))
+        return matchParticipantRepository.findPlayerMatchRows(currentPlayer.getId(), false)
+                .stream()
+                .map(PlayerMatchResponse::from)
                 .toList();
     }
 
@@ -181,13 +185,40 @@ public class PlayerServiceImpl implements PlayerService {
     public List<PlayerMatchResponse> getPlayerCompleteMatches() {
         log.info("[PlayerService] 완료된 경기 리스트 조회");
         Player currentPlayer = getCurrentLoggedInMember();
-        List<Match> matches = matchRepository.findCompletedMatchesByPlayerId(currentPlayer.getId());
-
-        return matches.stream()
-                .map(match -> createPlayerMatchResponse(match, currentPlayer))
+        return matchParticipantRepository.findPlayerMatchRows(currentPlayer.getId(), true)
+                .stream()
+                .map(PlayerMatchResponse::from)
                 .toList();
     }
 
+    @Override
+    public PlayerMatchCursorResponse getPlayerMatchFeed(boolean finishedOnly, String cursor, int size) {
+        log.info("[PlayerService] 경기 피드 조회 >>>> 완료 경기만: {}, 커서: {}, 크기: {}", finishedOnly, cursor, size);
+        Player currentPlayer = getCurrentLoggedInMember();
+        int pageSize = Math.min(Math.max(size, 1), MAX_MATCH_FEED_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        MatchCursor matchCursor = MatchCursor.decode(cursor);
+        List<PlayerMatchRow> rows = matchParticipantRepository.findPlayerMatchRowsAfterCursor(
+                currentPlayer.getId(),
+                finishedOnly,
+                matchCursor.matchDate(),
+                matchCursor.matchTime(),
+                matchCursor.id(),
+                Limit.of(pageSize + 1)
+        );
+        boolean hasNext = rows.size() > pageSize;
+        List<PlayerMatchRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? page.get(page.size() - 1).toCursor().encode() : null;
+
+        return PlayerMatchCursorResponse.of(
+                page.stream()
+                        .map(PlayerMatchResponse::from)
+                        .toList(),
+                nextCursor
+        );
+    }
+
     @Override
     public PlayerIdResponse getPlayerId() {
         log.info("[PlayerService] 선수 ID 조회");
@@ -199,49 +230,77 @@ public class PlayerServiceImpl implements PlayerService {
     @Override
     public PlayerTotalMatchResponse getPlayerTotalMatch() {
         log.info("[PlayerService] 전체 경기 횟수 조회");
-        Long playerId = SecurityUtil.getLoginMemberId()
-                .orElseThrow(NotAuthenticatedException::new);
-        return PlayerTotalMatchResponse.of(playerRepository.countMatchesByPlayerId(playerId));
+        Player currentPlayer = getCurrentLoggedInMember();
+        return PlayerTotalMatchResponse.of(currentPlayer.getWinCount() + currentPlayer.getLoseCount());
     }
 
     @Override
-    public PlayerRankingResponse getPlayersRanking() {
-        log.info("[PlayerService] 선수 랭킹 조회");
-        Set<ZSetOperations.TypedTuple<String>> topPlayers = rankingUtil.getAllPlayers();
-
-        if (topPlayers.isEmpty()) {
-            playerRepository.findAll().forEach(rankingUtil::savePlayerToRanking);
-        }
+    public PlayerRankingResponse getPlayersRanking(int page, int size) {
+        log.info("[PlayerService] 선수 랭킹 조회 >>>> 페이지: {}, 크기: {}", page, size);
+        int pageSize = Math.min(Math.max(size, 1), MAX_RANKING_PAGE_SIZE);
+        long start = (long) Math.max(page, 0) * pageSize;
+        Set<ZSetOperations.TypedTuple<String>> pagePlayers = rankingUtil.getPlayersInRange(start, start + pageSize - 1);
 
         Player currentPlayer = getCurrentLoggedInMember();
-        List<PlayerRankingResponse.PlayerRanking> rankings = new ArrayList<>();
-        int rank = 1;
+        long currentRank = rankingUtil.getPlayerRank(currentPlayer);
+        long nearbyStart = Math.max(currentRank - 1 - NEARBY_RANKING_RADIUS, 0);
+        Set<ZSetOperations.TypedTuple<String>> nearbyPlayers = currentRank > 0
+                ? rankingUtil.getPlayersInRange(nearbyStart, currentRank - 1 + NEARBY_RANKING_RADIUS)
+                : Set.of();
+
+        // 페이지와 주변 랭킹에 등장하는 선수의 메타데이터를 한 번에 조회
+        Set<Long> playerIds = new HashSet<>();
+        pagePlayers.forEach(tuple -> playerIds.add(RankingUtil.toPlayerId(tuple.getValue())));
+        nearbyPlayers.forEach(tuple -> playerIds.add(RankingUtil.toPlayerId(tuple.getValue())));
+        Map<Long, PlayerRankingProfile> profiles = new HashMap<>();
+        playerRepository.findRankingProfilesByIds(playerIds)
+                .forEach(profile -> profiles.put(profile.playerId(), profile));
+
+        long totalCount = rankingUtil.getRankingSize();
+        return PlayerRankingResponse.of(
+                toPlayerRankings(pagePlayers, start, profiles),
+                PlayerRankingResponse.PlayerRanking.of(
+                        (int) currentRank,
+                        currentPlayer.getNickname(),
+                        currentPlayer.getRating(),
+                        currentPlayer.getGameCount(),
+                        generateRankingImageUrl(currentPlayer.getImage())
+                ),
+                toPlayerRankings(nearbyPlayers, nearbyStart, profiles),
+                totalCount,
+                start + pageSize < totalCount
+        );
+    }
 
-        for (ZSetOperations.TypedTuple<String> tuple : topPlayers) {
-            if (tuple.getScore() == null){
+    private List<PlayerRankingResponse.PlayerRanking> toPlayerRankings(
+            Set<ZSetOperations.TypedTuple<String>> tuples,
+            long startIndex,
+            Map<Long, PlayerRankingProfile> profiles
+    ) {
+        List<PlayerRankingResponse.PlayerRanking> rankings = new ArrayList<>(tuples.size());
+        int rank = (int) startIndex + 1;
+
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            PlayerRankingProfile profile = profiles.get(RankingUtil.toPlayerId(tuple.getValue()));
+            // 탈퇴 등으로 DB에 없는 선수는 순위만 차지하고 응답에서는 제외
+            if (tuple.getScore() == null || profile == null) {
+                rank++;
                 continue;
             }
 
-            String nickname = tuple.getValue();
-            int rating = tuple.getScore().intValue();
-            Integer gameCount = playerRepository.findGameCountByNickname(nickname)
-                    .orElse(0);
-
-            PlayerRankingResponse.PlayerRanking playerRanking =
-                    PlayerRankingResponse.PlayerRanking.of(rank++, nickname, rating, gameCount);
-            rankings.add(playerRanking);
+            rankings.add(PlayerRankingResponse.PlayerRanking.of(
+                    rank++,
+                    profile.nickname(),
+                    tuple.getScore().intValue(),
+                    profile.gameCount(),
+                    generateRankingImageUrl(profile.image())
+            ));
         }
+        return rankings;
+    }
 
-        // 현재 플레이어 정보 추가
-        Integer currentPlayerRanking = rankingUtil.getPlayerRank(currentPlayer).intValue();
-        rankings.add(PlayerRankingResponse.PlayerRanking.of(
-                currentPlayerRanking,
-                currentPlayer.getNickname(),
-                currentPlayer.getRating(),
-                playerRepository.findGameCountByNickname(currentPlayer.getNickname()).orElse(0)
-        ));
-
-        return PlayerRankingResponse.of(rankings);
+    private String generateRankingImageUrl(String image) {
+        return image == null || image.isEmpty() ? "" : s3Util.getPresignedUrlFromS3(image);
     }
 
     private boolean isDuplicateEmail(Player existingPlayer) {
@@ -335,68 +394,4 @@ public class PlayerServiceImpl implements PlayerService {
             }
         }
     }
-
-    private PlayerMatchResponse createPlayerMatchResponse(Match match, Player currentPlayer) {
-        Integer avgRating = calculateAverageRating(match);
-        String myTeamAndNumber = determineTeamAndNumber(match, currentPlayer);
-
-        RatingChange ratingChange = playerRepository.findFirstByPlayerIdAndMatchId(currentPlayer.getId(), match.getId());
-
-        Integer myRatingChange = null;
-        if (ratingChange != null) {
-            myRatingChange = ratingChange.getRatingChange();
-        }
-
-        return PlayerMatchResponse.from(match, avgRating, myTeamAndNumber, myRatingChange);
-    }
-
-    private String determineTeamAndNumber(Match match, Player currentPlayer) {
-        return findTeamAndNumber(match.getTeam1(), "A팀", currentPlayer)
-                .or(() -> findTeamAndNumber(match.getTeam2(), "B팀", currentPlayer))
-                .orElse("참가 정보 없음");
-    }
-
-    private Optional<String> findTeamAndNumber(Team team, String teamName, Player currentPlayer) {
-        if (isPlayerInTeam(team.getPlayer1(), currentPlayer)) {
-            return Optional.of(teamName + " 1번");
-        } else if (isPlayerInTeam(team.getPlayer2(), currentPlayer)) {
-            return Optional.of(teamName + " 2번");
-        }
-        return Optional.empty();
-    }
-
-    private boolean isPlayerInTeam(Player teamPlayer, Player currentPlayer) {
-        return teamPlayer != null && teamPlayer.getId().equals(currentPlayer.getId());
-    }
-
-    private Integer calculateAverageRating(Match match) {
-        int totalRating = 0;
-        int playerCount = 0;
-
-        for (Player player : getAllPlayersInMatch(match)) {
-            if (player != null) {
-                totalRating += player.getRating();
-                playerCount++;
-            }
-        }
-
-        return playerCount > 0 ? totalRating / playerCount : 0;
-    }
-
-    private List<Player> getAllPlayersInMatch(Match match) {
-        List<Player> players = new ArrayList<>();
-        if (match.getTeam1().getPlayer1() != null) {
-            players.add(match.getTeam1().getPlayer1());
-        }
-        if (match.getTeam1().getPlayer2() != null) {
-            players.add(match.getTeam1().getPlayer2());
-        }
-        if (match.getTeam2().getPlayer1() != null) {
-            players.add(match.getTeam2().getPlayer1());
-        }
-        if (match.getTeam2().getPlayer2() != null) {
-            players.add(match.getTeam2().getPlayer2());
-        }
-        return players;
-    }
 }
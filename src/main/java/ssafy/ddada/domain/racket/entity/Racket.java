@@ -2,9 +2,11 @@ package ssafy.ddada.domain.racket.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import ssafy.ddada.domain.search.SearchIndexEntityListener;
 
 @Getter
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @ToString
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -42,4 +42,16 @@ public class RacketDocument {
     @Field(type = Text, index = false)
     private String image;
 
+    public static RacketDocument from(Racket racket) {
+        return RacketDocument.builder()
+                .id(String.valueOf(racket.getId()))
+                .racketId(racket.getId())
+                .name(racket.getName())
+                .manufacturer(racket.getManufacturer())
+                .weight(racket.getWeight())
+                .material(racket.getMaterial())
+                .image(racket.getImage())
+                .build();
+    }
+
 }
@@ -1,6 +1,7 @@
 package ssafy.ddada.domain.racket.repository;
 
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ssafy.ddada.domain.racket.entity.Racket;
@@ -13,4 +14,6 @@ public interface RacketRepository extends JpaRepository<Racket, Long> {
     @NotNull
     List<Racket> findAll();
 
+    List<Racket> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit);
+
 }
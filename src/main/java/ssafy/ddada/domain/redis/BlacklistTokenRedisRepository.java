@@ -4,8 +4,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 import static ssafy.ddada.common.constant.redis.CONST_VALUE.EXPIRED;
 import static ssafy.ddada.common.constant.redis.KEY_PREFIX.BLACKLIST;
+import static ssafy.ddada.common.constant.redis.KEY_PREFIX.BLACKLIST_CHANNEL;
+import static ssafy.ddada.common.constant.redis.KEY_PREFIX.BLACKLIST_INDEX;
 
 @Component
 @Slf4j
@@ -16,11 +20,28 @@ public class BlacklistTokenRedisRepository extends BaseRedisRepository<String> {
         this.ttl = 60 * 60 * 24 * 7L;
     }
 
+    /**
+     * 토큰을 블랙리스트에 추가하고, 다른 인스턴스의 로컬 필터가 갱신되도록 채널에 알립니다.
+     * 전체 목록은 만료 시각을 점수로 하는 인덱스 ZSet에도 기록해 필터 재구성에 사용합니다.
+     */
     public void save(String token, Long ttl) {
         super.save(token, EXPIRED, ttl);
+        redisTemplate.opsForZSet().add(BLACKLIST_INDEX, token, System.currentTimeMillis() + ttl * 1000);
+        redisTemplate.convertAndSend(BLACKLIST_CHANNEL, token);
     }
 
     public Boolean hasKey(String key) {
         return redisTemplate.hasKey(generateKeyFromId(key));
     }
+
+    // 아직 만료되지 않은 블랙리스트 토큰 목록 (만료된 인덱스 항목은 정리)
+    public Set<String> findActiveTokens() {
+        redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX, 0, System.currentTimeMillis());
+        Set<String> tokens = redisTemplate.opsForZSet().range(BLACKLIST_INDEX, 0, -1);
+        return tokens == null ? Set.of() : tokens;
+    }
+
+    public String deserializeMessage(byte[] body) {
+        return (String) redisTemplate.getValueSerializer().deserialize(body);
+    }
 }
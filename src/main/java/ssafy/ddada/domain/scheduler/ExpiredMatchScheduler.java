@@ -1,48 +1,118 @@
 package ssafy.ddada.domain.scheduler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import ssafy.ddada.domain.match.entity.Match;
-import ssafy.ddada.domain.match.entity.MatchStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.ddada.domain.court.repository.CourtSlotRepository;
+import ssafy.ddada.domain.court.service.CourtAvailabilityCache;
+import ssafy.ddada.domain.match.model.ExpiredMatchRef;
 import ssafy.ddada.domain.match.repository.MatchRepository;
+import ssafy.ddada.domain.match.service.MatchIndexService;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 시작 시각이 지났는데 시작되지 않은 경기를 취소합니다.
+ * 몇 분 간격으로 실행되며, 대상 경기는 엔티티로 로딩하지 않고 청크 단위 벌크 UPDATE로 처리해 트랜잭션 크기를 제한합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ExpiredMatchScheduler {
 
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_PER_RUN = 200;
+    // 매니저가 경기를 시작 처리할 수 있도록 시작 시각 이후 잠시 기다린 뒤 취소
+    private static final Duration START_GRACE_PERIOD = Duration.ofMinutes(30);
+
     private final MatchRepository matchRepository;
+    private final CourtSlotRepository courtSlotRepository;
+    private final CourtAvailabilityCache courtAvailabilityCache;
+    private final MatchIndexService matchIndexService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private Timer chunkTimer;
+    private DistributionSummary chunkRows;
+    private Counter canceledCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        chunkTimer = Timer.builder("match.expiry.chunk.duration")
+                .register(meterRegistry);
+        chunkRows = DistributionSummary.builder("match.expiry.chunk.rows")
+                .register(meterRegistry);
+        canceledCounter = Counter.builder("match.expiry.canceled")
+                .register(meterRegistry);
+    }
 
-    // 매일 오전 4시에 스케줄러 실행
-    @Transactional
-    @Scheduled(cron = "0 0 4 * * *")
+    @Scheduled(fixedDelay = 300_000, initialDelay = 60_000)
     public void collectOutDatedMatches() {
-        log.info("미진행 경기 취소 프로세스 실행");
+        LocalDateTime cutoff = LocalDateTime.now().minus(START_GRACE_PERIOD);
+        int total = 0;
         try {
-            List<Match> outDatedMatches = matchRepository.findAllOutDatedMatches();
+            for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+                Integer canceled = chunkTimer.record(() -> cancelChunk(cutoff));
+                if (canceled == null || canceled < 0) {
+                    break;
+                }
+                chunkRows.record(canceled);
+                canceledCounter.increment(canceled);
+                total += canceled;
+            }
+        } catch (Exception e) {
+            // 이미 커밋된 청크는 유지되고 남은 경기는 다음 실행에서 처리됨
+            log.error("미진행 경기 취소 프로세스 비정상 종료 >>>> 취소된 경기 수: {}, 원인: {}", total, e.getMessage(), e);
+            return;
+        }
+        if (total > 0) {
+            log.info("미진행 경기 {}개 취소 완료", total);
+        }
+    }
 
-            if (outDatedMatches.isEmpty()) {
-                log.info("취소할 미진행 경기가 없습니다.");
-                return;
+    /**
+     * 한 청크를 별도 트랜잭션에서 취소합니다. 더 이상 대상이 없으면 -1을 반환합니다.
+     */
+    private Integer cancelChunk(LocalDateTime cutoff) {
+        return transactionTemplate.execute(status -> {
+            List<ExpiredMatchRef> refs = matchRepository.findOutDatedMatchRefs(
+                    cutoff.toLocalDate(),
+                    cutoff.toLocalTime(),
+                    Limit.of(CHUNK_SIZE)
+            );
+            if (refs.isEmpty()) {
+                return -1;
             }
 
-            for (Match match : outDatedMatches) {
-                match.setStatus(MatchStatus.CANCELED);
+            List<Long> matchIds = refs.stream().map(ExpiredMatchRef::matchId).toList();
+            matchRepository.cancelMatchesByIds(matchIds);
+
+            // 조회와 갱신 사이에 시작된 경기는 제외하고 실제로 취소된 경기만 후속 처리
+            Set<Long> canceledIds = new HashSet<>(matchRepository.findCanceledMatchIds(matchIds));
+            if (!canceledIds.isEmpty()) {
+                courtSlotRepository.deleteByMatchIds(canceledIds);
+                matchIndexService.markCanceledAfterCommit(canceledIds);
+                refs.stream()
+                        .filter(ref -> canceledIds.contains(ref.matchId()))
+                        .map(ExpiredMatchRef::courtId)
+                        .distinct()
+                        .forEach(courtAvailabilityCache::evictAfterCommit);
             }
-            matchRepository.saveAll(outDatedMatches);
-            log.info("미진행 경기 {}개 취소 완료", outDatedMatches.size());
 
-        } catch (Exception e) {
-            log.error("미진행 경기 취소 프로세스 비정상 종료: {}", e.getMessage(), e);
-            throw e; // 트랜잭션 롤백
-        }
-        log.info("미진행 경기 취소 프로세스 정상 종료");
+            return canceledIds.size();
+        });
     }
 
 }
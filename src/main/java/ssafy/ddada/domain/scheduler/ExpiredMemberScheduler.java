@@ -1,35 +1,127 @@
 package ssafy.ddada.domain.scheduler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import ssafy.ddada.domain.member.player.entity.Player;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.ddada.common.properties.MemberPurgeProperties;
+import ssafy.ddada.common.util.RankingUtil;
+import ssafy.ddada.common.util.S3Util;
+import ssafy.ddada.domain.match.repository.MatchParticipantRepository;
+import ssafy.ddada.domain.match.repository.PlayerMatchRecordRepository;
+import ssafy.ddada.domain.match.repository.RatingChangeRepository;
+import ssafy.ddada.domain.match.repository.TeamRepository;
+import ssafy.ddada.domain.member.player.model.PlayerPurgeTarget;
+import ssafy.ddada.domain.member.player.repository.PasswordHistoryRepository;
 import ssafy.ddada.domain.member.player.repository.PlayerRepository;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 탈퇴 후 한 달이 지난 선수를 영구 삭제합니다.
+ * ID 순 keyset 청크마다 별도 트랜잭션에서 아직 탈퇴 상태인 선수를 잠금과 함께 다시 확인한 뒤 그 선수의 종속 행만 벌크 삭제하고,
+ * 커밋 후 같은 선수의 랭킹 ZSet과 S3 프로필 이미지를 정리합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ExpiredMemberScheduler {
 
     private final PlayerRepository playerRepository;
+    private final PasswordHistoryRepository passwordHistoryRepository;
+    private final RatingChangeRepository ratingChangeRepository;
+    private final MatchParticipantRepository matchParticipantRepository;
+    private final PlayerMatchRecordRepository playerMatchRecordRepository;
+    private final TeamRepository teamRepository;
+    private final RankingUtil rankingUtil;
+    private final S3Util s3Util;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberPurgeProperties memberPurgeProperties;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional
+    private Timer runTimer;
+    private DistributionSummary runPlayers;
+    private Counter purgedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        runTimer = Timer.builder("member.purge.run.duration")
+                .register(meterRegistry);
+        runPlayers = DistributionSummary.builder("member.purge.run.players")
+                .register(meterRegistry);
+        purgedCounter = Counter.builder("member.purge.purged")
+                .register(meterRegistry);
+    }
+
+    // 매일 오전 4시에 스케줄러 실행
     @Scheduled(cron = "0 0 4 * * *")
     public void collectDeletedMembers() {
         log.info("탈퇴한 유저 삭제 프로세스 실행");
+        LocalDateTime deletedBefore = LocalDateTime.now().minusMonths(1);
+        int batchSize = memberPurgeProperties.batchSize();
+        long startedAt = System.nanoTime();
+        long lastId = 0L;
+        int total = 0;
+
         try {
-            List<Player> deletedPlayers = playerRepository.findDeletedPlayers();
-            playerRepository.deleteAll(deletedPlayers);
+            while (true) {
+                List<PlayerPurgeTarget> targets = playerRepository.findPurgeTargetsAfterId(lastId, deletedBefore, Limit.of(batchSize));
+                if (targets.isEmpty()) {
+                    break;
+                }
+                List<Long> candidateIds = targets.stream().map(PlayerPurgeTarget::playerId).toList();
+                List<Long> purgedIds = transactionTemplate.execute(status -> purgeChunk(candidateIds, deletedBefore));
+
+                // DB 삭제가 커밋된 뒤에만, 실제로 삭제된 선수의 외부 저장소 정리
+                if (purgedIds != null && !purgedIds.isEmpty()) {
+                    Set<Long> purged = new HashSet<>(purgedIds);
+                    rankingUtil.removeMembers(purgedIds.stream().map(String::valueOf).toList());
+                    s3Util.deleteImagesFromS3(targets.stream()
+                            .filter(target -> purged.contains(target.playerId()))
+                            .map(PlayerPurgeTarget::image)
+                            .toList());
+
+                    purgedCounter.increment(purgedIds.size());
+                    total += purgedIds.size();
+                }
+                lastId = candidateIds.get(candidateIds.size() - 1);
+            }
         } catch (Exception e) {
-            log.error("탈퇴한 유저 삭제 프로세스 비정상 종료: {}", e.getMessage(), e);
-            throw e; // 트랜잭션 롤백
+            // 이미 커밋된 청크는 유지되고 남은 선수는 다음 실행에서 처리됨
+            log.error("탈퇴한 유저 삭제 프로세스 비정상 종료 >>>> 삭제된 유저 수: {}, 원인: {}", total, e.getMessage(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            runPlayers.record(total);
+            log.info("탈퇴한 유저 삭제 프로세스 종료 >>>> 삭제된 유저 수: {}, 소요 시간: {}ms", total, elapsedNanos / 1_000_000);
+        }
+    }
+
+    private List<Long> purgeChunk(List<Long> candidateIds, LocalDateTime deletedBefore) {
+        // 조회 이후 복구된 선수의 종속 행을 지우지 않도록 잠근 선수만 삭제
+        List<Long> playerIds = playerRepository.lockPurgeTargets(candidateIds, deletedBefore);
+        if (playerIds.isEmpty()) {
+            return playerIds;
         }
-        log.info("탈퇴한 유저 삭제 프로세스 정상 종료");
+        passwordHistoryRepository.deleteByPlayerIds(playerIds);
+        ratingChangeRepository.deleteByPlayerIds(playerIds);
+        matchParticipantRepository.deleteByPlayerIds(playerIds);
+        playerMatchRecordRepository.deleteByPlayerIds(playerIds);
+        teamRepository.detachPlayer1(playerIds);
+        teamRepository.detachPlayer2(playerIds);
+        playerRepository.deleteDeletedPlayersByIds(playerIds);
+        return playerIds;
     }
 
 }
@@ -0,0 +1,108 @@
+package ssafy.ddada.domain.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+import ssafy.ddada.common.exception.data.DataNotFoundException;
+import ssafy.ddada.config.filter.AnalyticsCircuitBreakerFilter;
+import ssafy.ddada.domain.match.entity.MatchAnalysisOutbox;
+import ssafy.ddada.domain.match.repository.MatchAnalysisOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 경기 분석 outbox에 쌓인 엔트리를 분석 서버로 전송합니다.
+ * 경기 저장 요청은 분석 서버의 응답을 기다리지 않으며, 실패한 전송은 지수 백오프로 재시도됩니다.
+ * 엔트리는 짧은 트랜잭션에서 잠금과 함께 가져와 임대 시각을 기록하므로, 여러 인스턴스가 같은 엔트리를 중복 전송하지 않습니다.
+ * 분석 요청은 조회보다 오래 걸리므로 요청별로 긴 응답 타임아웃을 쓰고, 서킷 브레이커 대신 outbox 백오프로 재시도합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchAnalysisDispatchScheduler {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int CONCURRENCY = 4;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_DELAY_SECONDS = 30;
+    // 클라이언트 기본 응답 타임아웃은 조회 기준이므로 분석 요청에는 요청별로 덮어씀
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // 인스턴스가 전송 중 종료되면 임대 시각 이후 다른 인스턴스가 다시 가져감
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+    private final MatchAnalysisOutboxRepository matchAnalysisOutboxRepository;
+    private final WebClient webClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelay = 10_000, initialDelay = 30_000)
+    public void dispatchPendingAnalyses() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MatchAnalysisOutbox> entries = transactionTemplate.execute(status -> {
+            List<MatchAnalysisOutbox> claimed = matchAnalysisOutboxRepository.findDispatchableForUpdate(now, BATCH_SIZE);
+            claimed.forEach(entry -> entry.claim(now.plus(CLAIM_LEASE)));
+            return claimed;
+        });
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        log.info("[MatchAnalysisDispatch] 경기 분석 전송 시작 >>>> 대상 수: {}", entries.size());
+
+        List<MatchAnalysisOutbox> results = Flux.fromIterable(entries)
+                .flatMap(this::dispatch, CONCURRENCY)
+                .collectList()
+                .block();
+
+        if (results != null) {
+            results.forEach(this::saveResult);
+        }
+    }
+
+    private void saveResult(MatchAnalysisOutbox entry) {
+        try {
+            matchAnalysisOutboxRepository.save(entry);
+        } catch (OptimisticLockingFailureException e) {
+            // 전송 중 경기가 다시 저장되어 엔트리가 초기화된 경우, 초기화된 상태를 유지해 새 분석을 다시 전송
+            log.info("[MatchAnalysisDispatch] 전송 중 경기가 다시 저장되어 결과 반영 생략 >>>> 경기 ID: {}", entry.getMatchId());
+        }
+    }
+
+    private Mono<MatchAnalysisOutbox> dispatch(MatchAnalysisOutbox entry) {
+        return webClient.post()
+                .uri("add_match_analysis/{matchId}/", entry.getMatchId())
+                .attribute(AnalyticsCircuitBreakerFilter.BYPASS_ATTRIBUTE, true)
+                .httpRequest(httpRequest -> {
+                    HttpClientRequest nativeRequest = httpRequest.getNativeRequest();
+                    nativeRequest.responseTimeout(REQUEST_TIMEOUT);
+                })
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class)
+                                .defaultIfEmpty("Unknown error")
+                                .flatMap(errorBody -> Mono.error(new DataNotFoundException()))
+                )
+                .bodyToMono(String.class)
+                .timeout(REQUEST_TIMEOUT)
+                .then(Mono.fromCallable(() -> {
+                    entry.complete();
+                    log.debug("[MatchAnalysisDispatch] 경기 분석 전송 성공 >>>> 경기 ID: {}", entry.getMatchId());
+                    return entry;
+                }))
+                .onErrorResume(e -> {
+                    entry.fail(e.getClass().getSimpleName() + ": " + e.getMessage(), MAX_ATTEMPTS, BASE_DELAY_SECONDS);
+                    log.warn("[MatchAnalysisDispatch] 경기 분석 전송 실패 >>>> 경기 ID: {}, 시도 횟수: {}, 상태: {}",
+                            entry.getMatchId(), entry.getAttemptCount(), entry.getStatus());
+                    return Mono.just(entry);
+                });
+    }
+
+}
@@ -0,0 +1,149 @@
+package ssafy.ddada.domain.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ssafy.ddada.common.util.RankingUtil;
+import ssafy.ddada.domain.member.player.model.PlayerRatingEntry;
+import ssafy.ddada.domain.member.player.repository.PlayerRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 선수 랭킹 ZSet을 DB 기준으로 채우고 어긋난 항목을 바로잡습니다.
+ * 기동 직후와 매일 새벽에 실행되며, 사용자 요청 경로에서는 랭킹을 재구성하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingReconcileScheduler {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final PlayerRepository playerRepository;
+    private final RankingUtil rankingUtil;
+    private final MeterRegistry meterRegistry;
+
+    // 마지막 대조 결과 (누락, 점수 불일치, DB에 없는 항목)
+    private final AtomicLong missingCount = new AtomicLong();
+    private final AtomicLong mismatchedCount = new AtomicLong();
+    private final AtomicLong staleCount = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("ranking.reconcile.drift", List.of(Tag.of("type", "missing")), missingCount);
+        meterRegistry.gauge("ranking.reconcile.drift", List.of(Tag.of("type", "mismatched")), mismatchedCount);
+        meterRegistry.gauge("ranking.reconcile.drift", List.of(Tag.of("type", "stale")), staleCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+        log.info("[RankingReconcile] 랭킹 대조 시작");
+        try {
+            Set<Long> activePlayerIds = new HashSet<>();
+            long missing = 0;
+            long mismatched = 0;
+            long lastId = 0L;
+            List<PlayerRatingEntry> page;
+
+            do {
+                page = playerRepository.findRatingEntriesAfterId(lastId, Limit.of(PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                List<Long> playerIds = page.stream().map(PlayerRatingEntry::playerId).toList();
+                List<Double> scores = rankingUtil.getScores(playerIds);
+                List<PlayerRatingEntry> drifted = new ArrayList<>();
+
+                for (int i = 0; i < page.size(); i++) {
+                    PlayerRatingEntry entry = page.get(i);
+                    Double score = i < scores.size() ? scores.get(i) : null;
+                    if (score == null) {
+                        missing++;
+                        drifted.add(entry);
+                    } else if (score.intValue() != entry.rating()) {
+                        mismatched++;
+                        drifted.add(entry);
+                    }
+                }
+                rankingUtil.saveRatings(drifted);
+                activePlayerIds.addAll(playerIds);
+                lastId = playerIds.get(playerIds.size() - 1);
+            } while (page.size() == PAGE_SIZE);
+
+            long stale = removeStaleMembers(activePlayerIds);
+
+            missingCount.set(missing);
+            mismatchedCount.set(mismatched);
+            staleCount.set(stale);
+            log.info("[RankingReconcile] 랭킹 대조 완료 >>>> 선수 수: {}, 누락: {}, 점수 불일치: {}, 삭제된 항목: {}",
+                    activePlayerIds.size(), missing, mismatched, stale);
+        } catch (Exception e) {
+            log.error("[RankingReconcile] 랭킹 대조 비정상 종료: {}", e.getMessage(), e);
+        }
+    }
+
+    // DB에 없는(탈퇴 등) 선수가 ZSet에 남아있으면 제거
+    private long removeStaleMembers(Set<Long> activePlayerIds) {
+        long stale = 0;
+        long start = 0;
+        Set<String> members;
+
+        do {
+            members = rankingUtil.getMembersInRange(start, start + PAGE_SIZE - 1);
+            List<String> staleMembers = findStaleMembers(members, activePlayerIds);
+            rankingUtil.removeMembers(staleMembers);
+            stale += staleMembers.size();
+            // 제거한 만큼 뒤 항목이 앞으로 당겨짐
+            start += members.size() - staleMembers.size();
+        } while (members.size() == PAGE_SIZE);
+
+        return stale;
+    }
+
+    // 스캔 이후 가입해 랭킹에 오른 선수가 제거되지 않도록, 스캔 결과에 없는 후보를 DB에서 한 번 더 확인
+    private List<String> findStaleMembers(Set<String> members, Set<Long> activePlayerIds) {
+        List<String> staleMembers = new ArrayList<>();
+        Map<Long, String> candidates = new HashMap<>();
+        for (String member : members) {
+            Long playerId = toPlayerId(member);
+            if (playerId == null) {
+                staleMembers.add(member);
+            } else if (!activePlayerIds.contains(playerId)) {
+                candidates.put(playerId, member);
+            }
+        }
+        if (!candidates.isEmpty()) {
+            playerRepository.findRankedPlayerIds(candidates.keySet()).forEach(candidates::remove);
+            staleMembers.addAll(candidates.values());
+        }
+        return staleMembers;
+    }
+
+    private Long toPlayerId(String member) {
+        try {
+            return RankingUtil.toPlayerId(member);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
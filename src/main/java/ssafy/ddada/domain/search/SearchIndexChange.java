@@ -0,0 +1,27 @@
+package ssafy.ddada.domain.search;
+
+/**
+ * ES 인덱스에 반영해야 할 엔티티 변경 한 건. attempt는 반영에 실패해 다시 넣은 횟수입니다.
+ */
+public record SearchIndexChange(
+        Target target,
+        Long id,
+        Operation operation,
+        int attempt
+) {
+    public SearchIndexChange(Target target, Long id, Operation operation) {
+        this(target, id, operation, 0);
+    }
+
+    public SearchIndexChange retried() {
+        return new SearchIndexChange(target, id, operation, attempt + 1);
+    }
+
+    public enum Target {
+        COURT, GYM, RACKET
+    }
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+}
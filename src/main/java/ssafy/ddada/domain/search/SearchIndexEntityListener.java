@@ -0,0 +1,49 @@
+package ssafy.ddada.domain.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ssafy.ddada.domain.court.entity.Court;
+import ssafy.ddada.domain.gym.entity.Gym;
+import ssafy.ddada.domain.racket.entity.Racket;
+
+import static ssafy.ddada.domain.search.SearchIndexChange.Operation.DELETE;
+import static ssafy.ddada.domain.search.SearchIndexChange.Operation.UPSERT;
+import static ssafy.ddada.domain.search.SearchIndexChange.Target.*;
+
+/**
+ * Court, Gym, Racket 의 JPA 생명주기 이벤트를 ES 색인 큐로 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexEntityListener {
+
+    private final SearchIndexQueue searchIndexQueue;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        enqueue(entity, UPSERT);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        enqueue(entity, DELETE);
+    }
+
+    private void enqueue(Object entity, SearchIndexChange.Operation operation) {
+        if (entity instanceof Court court) {
+            searchIndexQueue.enqueueAfterCommit(new SearchIndexChange(COURT, court.getId(), operation));
+        } else if (entity instanceof Gym gym) {
+            // 체육관 정보는 코트 문서에 비정규화되어 있으므로 체육관 삭제는 코트 삭제 이벤트로 처리됨
+            if (operation == UPSERT) {
+                searchIndexQueue.enqueueAfterCommit(new SearchIndexChange(GYM, gym.getId(), UPSERT));
+            }
+        } else if (entity instanceof Racket racket) {
+            searchIndexQueue.enqueueAfterCommit(new SearchIndexChange(RACKET, racket.getId(), operation));
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package ssafy.ddada.domain.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.ddada.domain.court.entity.CourtDocument;
+import ssafy.ddada.domain.court.repository.CourtElasticsearchRepository;
+import ssafy.ddada.domain.court.repository.CourtRepository;
+import ssafy.ddada.domain.racket.entity.RacketDocument;
+import ssafy.ddada.domain.racket.repository.RacketElasticsearchRepository;
+import ssafy.ddada.domain.racket.repository.RacketRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static ssafy.ddada.domain.search.SearchIndexChange.Operation.DELETE;
+
+/**
+ * {@link SearchIndexQueue}에 쌓인 변경을 주기적으로(시간 기준) 최대 BATCH_SIZE 단위로(크기 기준) 묶어 bulk 반영합니다.
+ * 반영에 실패한 배치는 큐에 다시 넣고 지수 백오프 후 재시도하며, MAX_ATTEMPTS 번 실패한 변경만 버립니다.
+ * 배치마다 짧은 트랜잭션에서 최신 엔티티를 읽어 문서로 변환하고, ES 반영은 트랜잭션이 끝난 뒤 DB 커넥션 없이 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexFlusher {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 60_000;
+
+    private final SearchIndexQueue searchIndexQueue;
+    private final CourtRepository courtRepository;
+    private final RacketRepository racketRepository;
+    private final CourtElasticsearchRepository courtElasticsearchRepository;
+    private final RacketElasticsearchRepository racketElasticsearchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 스케줄러 스레드에서만 접근
+    private int consecutiveFailures;
+    private long retryAtMillis;
+
+    @Scheduled(fixedDelay = 1_000)
+    public void flush() {
+        if (System.currentTimeMillis() < retryAtMillis) {
+            return;
+        }
+        while (searchIndexQueue.size() > 0) {
+            List<SearchIndexChange> changes = searchIndexQueue.drain(BATCH_SIZE);
+            if (changes.isEmpty()) {
+                return;
+            }
+            try {
+                // 배치마다 영속성 컨텍스트를 새로 열어, 앞선 배치에서 읽은 엔티티가 재사용되지 않도록 함
+                IndexBatch batch = transactionTemplate.execute(status -> load(changes));
+                write(batch);
+                consecutiveFailures = 0;
+            } catch (Exception e) {
+                log.error("[SearchIndexFlusher] 인덱스 반영 실패 >>>> 변경 수: {}, 원인: {}", changes.size(), e.getMessage(), e);
+                requeueWithBackoff(changes);
+                return;
+            }
+        }
+    }
+
+    private void requeueWithBackoff(List<SearchIndexChange> changes) {
+        List<SearchIndexChange> retries = changes.stream()
+                .map(SearchIndexChange::retried)
+                .filter(change -> change.attempt() < MAX_ATTEMPTS)
+                .toList();
+        int dropped = changes.size() - retries.size();
+        if (dropped > 0) {
+            // 재시도 한도를 넘은 변경은 다음 전체 재색인에서 복구
+            log.error("[SearchIndexFlusher] 재시도 한도 초과로 변경 폐기 >>>> 변경 수: {}", dropped);
+        }
+        searchIndexQueue.requeue(retries);
+
+        consecutiveFailures++;
+        long backoffMillis = Math.min(BASE_BACKOFF_MILLIS << Math.min(consecutiveFailures - 1, 16), MAX_BACKOFF_MILLIS);
+        retryAtMillis = System.currentTimeMillis() + backoffMillis;
+        log.warn("[SearchIndexFlusher] 인덱스 반영 재시도 예약 >>>> 재시도 변경 수: {}, 대기: {}ms", retries.size(), backoffMillis);
+    }
+
+    private IndexBatch load(List<SearchIndexChange> changes) {
+        Set<Long> courtIdsToUpsert = new HashSet<>();
+        List<String> courtIdsToDelete = new ArrayList<>();
+        Set<Long> racketIdsToUpsert = new HashSet<>();
+        List<String> racketIdsToDelete = new ArrayList<>();
+
+        for (SearchIndexChange change : changes) {
+            switch (change.target()) {
+                case COURT -> {
+                    if (change.operation() == DELETE) {
+                        courtIdsToDelete.add(String.valueOf(change.id()));
+                    } else {
+                        courtIdsToUpsert.add(change.id());
+                    }
+                }
+                case GYM -> courtIdsToUpsert.addAll(courtRepository.findCourtIdsByGymId(change.id()));
+                case RACKET -> {
+                    if (change.operation() == DELETE) {
+                        racketIdsToDelete.add(String.valueOf(change.id()));
+                    } else {
+                        racketIdsToUpsert.add(change.id());
+                    }
+                }
+            }
+        }
+
+        List<CourtDocument> courtDocuments = courtIdsToUpsert.isEmpty() ? List.of()
+                : courtRepository.findCourtsWithGymByCourtIds(courtIdsToUpsert)
+                        .stream()
+                        .map(CourtDocument::from)
+                        .toList();
+        List<RacketDocument> racketDocuments = racketIdsToUpsert.isEmpty() ? List.of()
+                : racketRepository.findAllById(racketIdsToUpsert)
+                        .stream()
+                        .map(RacketDocument::from)
+                        .toList();
+        return new IndexBatch(courtDocuments, courtIdsToDelete, racketDocuments, racketIdsToDelete);
+    }
+
+    private void write(IndexBatch batch) {
+        if (!batch.courtDocuments().isEmpty()) {
+            courtElasticsearchRepository.saveAll(batch.courtDocuments());
+        }
+        if (!batch.courtIdsToDelete().isEmpty()) {
+            courtElasticsearchRepository.deleteAllById(batch.courtIdsToDelete());
+        }
+        if (!batch.racketDocuments().isEmpty()) {
+            racketElasticsearchRepository.saveAll(batch.racketDocuments());
+        }
+        if (!batch.racketIdsToDelete().isEmpty()) {
+            racketElasticsearchRepository.deleteAllById(batch.racketIdsToDelete());
+        }
+        log.debug("[SearchIndexFlusher] 인덱스 반영 >>>> 코트: {}/{}, 라켓: {}/{} (upsert/delete)",
+                batch.courtDocuments().size(), batch.courtIdsToDelete().size(),
+                batch.racketDocuments().size(), batch.racketIdsToDelete().size());
+    }
+
+    private record IndexBatch(
+            List<CourtDocument> courtDocuments,
+            List<String> courtIdsToDelete,
+            List<RacketDocument> racketDocuments,
+            List<String> racketIdsToDelete
+    ) {}
+
+}
@@ -0,0 +1,76 @@
+package ssafy.ddada.domain.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커밋된 엔티티 변경을 모아두었다가 {@link SearchIndexFlusher}가 bulk 요청으로 반영하도록 전달합니다.
+ */
+@Slf4j
+@Component
+public class SearchIndexQueue {
+
+    private final ConcurrentLinkedDeque<SearchIndexChange> changes = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public void enqueueAfterCommit(SearchIndexChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(change);
+            }
+        });
+    }
+
+    /**
+     * 반영에 실패한 변경을 큐 앞쪽에 다시 넣습니다.
+     * 실패 이후 들어온 같은 대상의 변경보다 먼저 꺼내지므로, drain 시 더 최신 연산이 남습니다.
+     */
+    public void requeue(List<SearchIndexChange> failedChanges) {
+        for (int i = failedChanges.size() - 1; i >= 0; i--) {
+            changes.addFirst(failedChanges.get(i));
+            size.incrementAndGet();
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 최대 maxSize 개의 변경을 꺼냅니다. 같은 대상에 대한 변경은 마지막 연산만 남깁니다.
+     */
+    public List<SearchIndexChange> drain(int maxSize) {
+        Map<String, SearchIndexChange> latest = new LinkedHashMap<>();
+        SearchIndexChange change;
+        int drained = 0;
+
+        while (drained < maxSize && (change = changes.poll()) != null) {
+            size.decrementAndGet();
+            drained++;
+            String key = change.target() + ":" + change.id();
+            latest.remove(key);
+            latest.put(key, change);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private void enqueue(SearchIndexChange change) {
+        changes.add(change);
+        size.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,17 @@
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용합니다. 여러 번 실행해도 안전합니다.
+
+CREATE TABLE IF NOT EXISTS match_analysis_outbox (
+    match_analysis_outbox_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    match_id                 bigint       NOT NULL,
+    status                   varchar(255) NOT NULL,
+    attempt_count            integer      NOT NULL DEFAULT 0,
+    next_attempt_at          timestamp(6) NOT NULL,
+    last_error               varchar(255),
+    created_at               timestamp(6),
+    updated_at               timestamp(6),
+    CONSTRAINT uk_match_analysis_outbox_match UNIQUE (match_id)
+);
+
+ALTER TABLE match_analysis_outbox ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_match_analysis_outbox_status_next ON match_analysis_outbox (status, next_attempt_at);
@@ -0,0 +1,4 @@
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용합니다. 여러 번 실행해도 안전합니다.
+-- DESC 정렬의 기본값이 NULLS FIRST 이므로, 시간 미정 경기를 앞에 두는 커서 조회 순서와 일치합니다.
+
+CREATE INDEX IF NOT EXISTS idx_match_date_time_id ON match (match_date DESC, match_time DESC, match_id DESC);
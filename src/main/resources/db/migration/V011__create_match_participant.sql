@@ -0,0 +1,17 @@
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용합니다. 여러 번 실행해도 안전합니다.
+-- 테이블을 만든 뒤 --backfill-match-participants 옵션으로 기존 경기의 참가자를 채웁니다.
+
+CREATE TABLE IF NOT EXISTS match_participant (
+    match_participant_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    player_id            bigint       NOT NULL REFERENCES player (player_id),
+    match_id             bigint       NOT NULL REFERENCES match (match_id),
+    team_no              integer      NOT NULL,
+    slot_no              integer      NOT NULL,
+    match_date           date         NOT NULL,
+    match_time           time(6),
+    created_at           timestamp(6),
+    updated_at           timestamp(6),
+    CONSTRAINT uk_match_participant_player_date_time UNIQUE (player_id, match_date, match_time)
+);
+
+CREATE INDEX IF NOT EXISTS idx_match_participant_match ON match_participant (match_id);
@@ -0,0 +1,5 @@
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용합니다. 여러 번 실행해도 안전합니다.
+-- 기존 행은 버전 0에서 시작하며, 값이 NULL인 행이 있으면 낙관적 락 갱신이 실패하므로 NOT NULL 기본값으로 추가합니다.
+
+ALTER TABLE match ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
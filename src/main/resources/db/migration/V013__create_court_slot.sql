@@ -0,0 +1,15 @@
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용합니다. 여러 번 실행해도 안전합니다.
+-- 테이블을 만든 뒤 --backfill-court-slots 옵션으로 기존 경기의 점유 시간대를 채웁니다.
+
+CREATE TABLE IF NOT EXISTS court_slot (
+    court_slot_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    court_id      bigint       NOT NULL,
+    slot_date     date         NOT NULL,
+    slot_time     time(6)      NOT NULL,
+    match_id      bigint       NOT NULL,
+    created_at    timestamp(6),
+    updated_at    timestamp(6),
+    CONSTRAINT uk_court_slot_court_date_time UNIQUE (court_id, slot_date, slot_time)
+);
+
+CREATE INDEX IF NOT EXISTS idx_court_slot_match ON court_slot (match_id);
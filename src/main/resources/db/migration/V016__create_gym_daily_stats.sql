@@ -0,0 +1,15 @@
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용합니다. 여러 번 실행해도 안전합니다.
+-- 경기 저장 시의 upsert가 ON CONFLICT (gym_id, stat_date)를 사용하므로 유니크 제약이 반드시 있어야 합니다.
+-- 테이블을 만든 뒤 --backfill-gym-daily-stats 옵션으로 기존 종료 경기의 집계를 채웁니다.
+
+CREATE TABLE IF NOT EXISTS gym_daily_stats (
+    gym_daily_stats_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    gym_id             bigint       NOT NULL,
+    stat_date          date         NOT NULL,
+    matches_finished   integer      NOT NULL,
+    revenue            integer      NOT NULL,
+    hourly_matches     integer[]    NOT NULL,
+    created_at         timestamp(6),
+    updated_at         timestamp(6),
+    CONSTRAINT uk_gym_daily_stats_gym_date UNIQUE (gym_id, stat_date)
+);
@@ -0,0 +1,17 @@
+-- 운영 환경은 ddl-auto: none 이므로 배포 전에 직접 적용합니다. 여러 번 실행해도 안전합니다.
+-- 경기 저장 시의 upsert가 ON CONFLICT (player_id, match_type)을 사용하므로 유니크 제약이 반드시 있어야 합니다.
+-- 적용 후 --backfill-match-participants --backfill-player-records 옵션으로 기존 전적을 다시 계산합니다.
+
+ALTER TABLE player ADD COLUMN IF NOT EXISTS win_count integer NOT NULL DEFAULT 0;
+ALTER TABLE player ADD COLUMN IF NOT EXISTS lose_count integer NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS player_match_record (
+    player_match_record_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    player_id              bigint       NOT NULL,
+    match_type             varchar(255) NOT NULL,
+    win_count              integer      NOT NULL,
+    lose_count             integer      NOT NULL,
+    created_at             timestamp(6),
+    updated_at             timestamp(6),
+    CONSTRAINT uk_player_match_record_player_type UNIQUE (player_id, match_type)
+);
@@ -0,0 +1,171 @@
+package ssafy.ddada.api.data;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ssafy.ddada.domain.match.service.MatchService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 느린 분석 서버 앞에서 /data 호출이 동시 호출 한도까지 몰려도,
+ * 요청 스레드를 점유하지 않으므로 /matches 응답 시간이 평소 수준으로 유지되는지 확인합니다.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DataEndpointLoadTest {
+
+    private static final Duration STUB_DELAY = Duration.ofSeconds(2);
+    private static final int DATA_REQUESTS = 400;
+    private static final int MATCH_REQUESTS = 50;
+    private static final int MAX_CONCURRENT_DATA_CALLS = 64;
+    private static final long MAX_MATCH_P95_MILLIS = 500;
+    private static final Set<Integer> EXPECTED_DATA_STATUSES = Set.of(200, 404, 503, 504);
+
+    private static final AtomicInteger stubInFlight = new AtomicInteger();
+    private static final AtomicInteger stubMaxInFlight = new AtomicInteger();
+    private static final ExecutorService stubExecutor = Executors.newCachedThreadPool();
+    private static final HttpServer analyticsStub = startAnalyticsStub();
+
+    @MockBean
+    private MatchService matchService;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(16))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // 모든 분석 서버 호출을 지연시키는 스텁
+    private static HttpServer startAnalyticsStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", exchange -> {
+                int inFlight = stubInFlight.incrementAndGet();
+                stubMaxInFlight.accumulateAndGet(inFlight, Math::max);
+                try {
+                    Thread.sleep(STUB_DELAY.toMillis());
+                    byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream outputStream = exchange.getResponseBody()) {
+                        outputStream.write(body);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException e) {
+                    // 클라이언트 타임아웃으로 연결이 끊긴 경우
+                } finally {
+                    stubInFlight.decrementAndGet();
+                    exchange.close();
+                }
+            });
+            server.setExecutor(stubExecutor);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void analyticsProperties(DynamicPropertyRegistry registry) {
+        registry.add("webclient.url", () -> "http://127.0.0.1:" + analyticsStub.getAddress().getPort() + "/");
+        // 커넥션 풀 대기 대신 동시 호출 한도로 포화되도록 풀을 한도만큼 열어 둠
+        registry.add("webclient.analytics.max-connections", () -> MAX_CONCURRENT_DATA_CALLS);
+        registry.add("webclient.analytics.pending-acquire-timeout", () -> "5s");
+    }
+
+    @AfterAll
+    static void stopAnalyticsStub() {
+        analyticsStub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void 분석_서버_호출이_포화되어도_경기_목록_응답_시간은_유지된다() throws Exception {
+        given(matchService.getFilteredMatches(any())).willReturn(Page.empty());
+
+        long baselineP95 = measureMatchesP95();
+
+        List<CompletableFuture<HttpResponse<String>>> dataCalls = new ArrayList<>();
+        for (int i = 0; i < DATA_REQUESTS; i++) {
+            // 요청마다 캐시 키가 달라지도록 라켓 ID를 바꿔 single-flight로 합쳐지지 않게 함
+            dataCalls.add(httpClient.sendAsync(
+                    get("/data/rackets?balance=light&weight=20&shaft=stiff&price=100000&racket_id=" + i),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        awaitStubSaturation();
+
+        long saturatedP95 = measureMatchesP95();
+        int saturatedInFlight = stubInFlight.get();
+
+        CompletableFuture.allOf(dataCalls.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        List<Integer> dataStatuses = dataCalls.stream().map(call -> call.join().statusCode()).toList();
+
+        log.info("[DataEndpointLoadTest] /matches p95 평상시: {}ms, 포화 시: {}ms, 포화 시 분석 서버 동시 호출: {}, 최대 동시 호출: {}, /data 상태 코드: {}",
+                baselineP95, saturatedP95, saturatedInFlight, stubMaxInFlight.get(),
+                dataStatuses.stream().distinct().sorted().toList());
+
+        assertThat(saturatedInFlight).isGreaterThan(0);
+        assertThat(stubMaxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENT_DATA_CALLS);
+        assertThat(saturatedP95).isLessThan(Math.max(MAX_MATCH_P95_MILLIS, baselineP95 * 3));
+        assertThat(dataStatuses).allMatch(EXPECTED_DATA_STATUSES::contains);
+    }
+
+    private long measureMatchesP95() throws Exception {
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < MATCH_REQUESTS; i++) {
+            long startedAt = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(get("/matches"), HttpResponse.BodyHandlers.ofString());
+            latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        Collections.sort(latencies);
+        return latencies.get((int) Math.ceil(latencies.size() * 0.95) - 1);
+    }
+
+    private void awaitStubSaturation() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stubInFlight.get() < MAX_CONCURRENT_DATA_CALLS / 2 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+}
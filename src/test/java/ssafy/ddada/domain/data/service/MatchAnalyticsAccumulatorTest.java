@@ -0,0 +1,140 @@
+package ssafy.ddada.domain.data.service;
+
+import org.junit.jupiter.api.Test;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.LoseSkillDetail;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.MiddleSkillRate;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.ScoreLoseRateResponse;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.ScoreSkillDetail;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SetInfoResponse;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SkillRate;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SkillRateText;
+import ssafy.ddada.api.data.response.PlayerMatchAnalyticsResponse.SkillResponse;
+import ssafy.ddada.common.exception.data.DataNotFoundException;
+import ssafy.ddada.domain.match.repository.ScoreStreamRepository;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 득점 기록 픽스처로 선수 경기 분석 결과를 검증합니다.
+ * 선수 번호는 팀 번호 * 10 + 슬롯 번호이며, 0은 선수 없음입니다.
+ */
+class MatchAnalyticsAccumulatorTest {
+
+    private static final String HIGHER = "경기 평균보다 높음";
+    private static final String LOWER = "경기 평균보다 낮음";
+    private static final String AVERAGE = "경기 평균 수준";
+
+    @Test
+    void 두_세트_복식_경기를_분석한다() {
+        MatchAnalyticsAccumulator accumulator = new MatchAnalyticsAccumulator(11);
+        // 세트 번호, 득점 선수, 실점 선수 1, 실점 선수 2, 득점 유형
+        accumulator.accept(1, 11, 21, 0, "SMASH");
+        accumulator.accept(1, 21, 11, 0, "DROP");
+        accumulator.accept(1, 0, 22, 0, null);
+        accumulator.accept(2, 11, 0, 0, "SERVE");
+        accumulator.accept(2, 22, 12, 11, "CLEAR");
+
+        PlayerMatchAnalyticsResponse response = accumulator.toResponse(4);
+
+        assertThat(response).isEqualTo(new PlayerMatchAnalyticsResponse(
+                List.of(
+                        new SetInfoResponse(1,
+                                Arrays.asList(11, 21, null),
+                                List.of(21, 11, 22),
+                                Arrays.asList(null, null, null),
+                                Arrays.asList("SMASH", "DROP", null),
+                                List.of(1, 1, 2),
+                                List.of(0, 1, 1)),
+                        new SetInfoResponse(2,
+                                List.of(11, 22),
+                                Arrays.asList(null, 12),
+                                Arrays.asList(null, 11),
+                                List.of("SERVE", "CLEAR"),
+                                List.of(1, 1),
+                                List.of(0, 1))
+                ),
+                List.of(1, 0, 1, 1, 0),
+                new ScoreLoseRateResponse(20.0, 40.0, 25.0, 40.0),
+                new SkillResponse(
+                        new ScoreSkillDetail(
+                                new MiddleSkillRate(25.0, 25.0, 0.0, 0.0, 25.0, 25.0),
+                                new SkillRate(0.0, 100.0, 0.0, 0.0, 0.0),
+                                new SkillRateText(LOWER, HIGHER, LOWER, AVERAGE, AVERAGE),
+                                "서브로 가장 많이 득점했습니다."
+                        ),
+                        new LoseSkillDetail(
+                                new MiddleSkillRate(25.0, 0.0, 0.0, 0.0, 25.0, 50.0),
+                                new SkillRate(50.0, 0.0, 50.0, 0.0, 0.0),
+                                new SkillRateText(HIGHER, LOWER, AVERAGE, AVERAGE, AVERAGE),
+                                "상대의 클리어에 가장 많이 실점했습니다."
+                        )
+                ),
+                null
+        ));
+    }
+
+    @Test
+    void 흐름은_상대_팀_선수_기준으로_부호가_바뀐다() {
+        MatchAnalyticsAccumulator accumulator = new MatchAnalyticsAccumulator(21);
+        accumulator.accept(1, 11, 21, 0, "SMASH");
+        accumulator.accept(1, 11, 22, 0, "SMASH");
+        accumulator.accept(1, 21, 12, 0, "PUSH");
+
+        assertThat(accumulator.toResponse(4).flow()).containsExactly(-1, -2, -1);
+    }
+
+    @Test
+    void 받침이_있는_기술은_으로를_붙인다() {
+        MatchAnalyticsAccumulator accumulator = new MatchAnalyticsAccumulator(11);
+        accumulator.accept(1, 11, 21, 0, "DROP");
+        accumulator.accept(1, 11, 21, 0, "HAIRPIN");
+        accumulator.accept(1, 11, 21, 0, "DROP");
+
+        assertThat(accumulator.toResponse(2).skill().score().message()).isEqualTo("드롭으로 가장 많이 득점했습니다.");
+    }
+
+    @Test
+    void 기술_기록이_없으면_안내_문구를_반환한다() {
+        MatchAnalyticsAccumulator accumulator = new MatchAnalyticsAccumulator(11);
+        accumulator.accept(1, 11, 21, 0, null);
+
+        SkillResponse skill = accumulator.toResponse(2).skill();
+
+        assertThat(skill.score().message()).isEqualTo("이번 경기의 기술별 득점 기록이 없습니다.");
+        assertThat(skill.lose().message()).isEqualTo("이번 경기의 기술별 실점 기록이 없습니다.");
+        assertThat(skill.score().skillRate()).isEqualTo(new SkillRate(0.0, 0.0, 0.0, 0.0, 0.0));
+    }
+
+    @Test
+    void 초기_배열_크기보다_긴_경기도_모든_랠리를_기록한다() {
+        MatchAnalyticsAccumulator accumulator = new MatchAnalyticsAccumulator(11);
+        int rallies = 0;
+        for (int set = 1; set <= 5; set++) {
+            for (int rally = 0; rally < 60; rally++) {
+                accumulator.accept(set, rally % 2 == 0 ? 11 : 21, rally % 2 == 0 ? 21 : 11, 0, "CLEAR");
+                rallies++;
+            }
+        }
+
+        PlayerMatchAnalyticsResponse response = accumulator.toResponse(2);
+
+        assertThat(accumulator.rallyCount()).isEqualTo(rallies);
+        assertThat(response.setInfo()).hasSize(5)
+                .allSatisfy(set -> assertThat(set.score1()).hasSize(60).last().isEqualTo(30));
+        assertThat(response.flow()).hasSize(rallies);
+    }
+
+    @Test
+    void 득점_기록이_없으면_예외가_발생한다() {
+        MatchAnalyticsEngine engine = new MatchAnalyticsEngine(mock(ScoreStreamRepository.class));
+
+        assertThatThrownBy(() -> engine.analyze(1L, 11, 4))
+                .isInstanceOf(DataNotFoundException.class);
+    }
+}
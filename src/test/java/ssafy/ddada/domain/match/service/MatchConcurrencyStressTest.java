@@ -0,0 +1,202 @@
+package ssafy.ddada.domain.match.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.ddada.common.exception.BaseException;
+import ssafy.ddada.domain.court.entity.Court;
+import ssafy.ddada.domain.court.repository.CourtRepository;
+import ssafy.ddada.domain.gym.entity.Gym;
+import ssafy.ddada.domain.gym.repository.GymRepository;
+import ssafy.ddada.domain.match.entity.Match;
+import ssafy.ddada.domain.match.entity.MatchStatus;
+import ssafy.ddada.domain.match.entity.MatchType;
+import ssafy.ddada.domain.match.entity.RankType;
+import ssafy.ddada.domain.match.entity.Team;
+import ssafy.ddada.domain.match.repository.MatchParticipantRepository;
+import ssafy.ddada.domain.match.repository.MatchRepository;
+import ssafy.ddada.domain.member.common.Gender;
+import ssafy.ddada.domain.member.manager.entity.Manager;
+import ssafy.ddada.domain.member.manager.repository.ManagerRepository;
+import ssafy.ddada.domain.member.player.entity.Player;
+import ssafy.ddada.domain.member.player.repository.PlayerRepository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 경기에 수백 건의 참가 요청과 매니저 배정 요청을 동시에 보내,
+ * 낙관적 락과 유니크 제약만으로 정원 초과와 매니저 중복 배정이 일어나지 않는지 확인합니다.
+ */
+@Slf4j
+@SpringBootTest
+class MatchConcurrencyStressTest {
+
+    private static final int PLAYER_COUNT = 300;
+    private static final int MANAGER_COUNT = 50;
+    private static final int THREAD_COUNT = 64;
+    private static final int CAPACITY = 4;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private MatchParticipantRepository matchParticipantRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private GymRepository gymRepository;
+    @Autowired
+    private CourtRepository courtRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Gym gym;
+    private Court court;
+    private Match match;
+    private List<Player> players;
+    private List<Manager> managers;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        gym = gymRepository.save(Gym.builder()
+                .name("stress-gym-" + prefix)
+                .address("stress-address-" + prefix)
+                .build());
+        court = courtRepository.save(Court.builder()
+                .gym(gym)
+                .courtNumber(1)
+                .build());
+        match = matchRepository.save(Match.builder()
+                .court(court)
+                .team1(Team.builder().build())
+                .team2(Team.builder().build())
+                .status(MatchStatus.CREATED)
+                .rankType(RankType.RANK)
+                .matchType(MatchType.MALE_DOUBLE)
+                .matchDate(LocalDate.now().plusYears(50))
+                .matchTime(LocalTime.of(10, 0))
+                .build());
+
+        List<Player> newPlayers = new ArrayList<>();
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            newPlayers.add(Player.builder()
+                    .email("stress-" + prefix + "-" + i + "@ddada.test")
+                    .nickname("stress-" + prefix + "-" + i)
+                    .gender(Gender.MALE)
+                    .rating(1000)
+                    .build());
+        }
+        players = playerRepository.saveAll(newPlayers);
+
+        List<Manager> newManagers = new ArrayList<>();
+        for (int i = 0; i < MANAGER_COUNT; i++) {
+            newManagers.add(Manager.builder()
+                    .email("stress-manager-" + prefix + "-" + i + "@ddada.test")
+                    .password("password")
+                    .nickname("stress-manager-" + prefix + "-" + i)
+                    .description("stress")
+                    .build());
+        }
+        managers = managerRepository.saveAll(newManagers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            matchParticipantRepository.deleteByMatchId(match.getId());
+            matchRepository.deleteById(match.getId());
+        });
+        playerRepository.deleteAll(players);
+        managerRepository.deleteAll(managers);
+        courtRepository.delete(court);
+        gymRepository.delete(gym);
+    }
+
+    @Test
+    void 동시_참가와_매니저_배정에도_정원과_매니저_수를_넘지_않는다() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        AtomicInteger managerAssigned = new AtomicInteger();
+
+        for (int i = 0; i < players.size(); i++) {
+            Long playerId = players.get(i).getId();
+            int teamNumber = i % 2 + 1;
+            executor.submit(() -> runAs(playerId, "ROLE_PLAYER", start, succeeded, rejected, unexpected,
+                    () -> matchService.setTeamPlayer(match.getId(), teamNumber)));
+        }
+        for (Manager manager : managers) {
+            executor.submit(() -> runAs(manager.getId(), "ROLE_MANAGER", start, managerAssigned, rejected, unexpected,
+                    () -> matchService.allocateManager(match.getId())));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        boolean finished = executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        int requests = PLAYER_COUNT + MANAGER_COUNT;
+        log.info("[MatchConcurrencyStressTest] 요청 수: {}, 참가 성공: {}, 매니저 배정: {}, 거절: {}, 소요 시간: {}ms, 처리량: {}건/초",
+                requests, succeeded.get(), managerAssigned.get(), rejected.get(), elapsedMillis,
+                requests * 1000L / Math.max(elapsedMillis, 1));
+
+        assertThat(finished).isTrue();
+        assertThat(unexpected.get()).isZero();
+        assertThat(succeeded.get() + managerAssigned.get() + rejected.get()).isEqualTo(requests);
+
+        Match result = matchRepository.findByIdWithInfos(match.getId()).orElseThrow();
+        int playerCount = result.getTeam1().getPlayerCount() + result.getTeam2().getPlayerCount();
+        // 좌석 충돌은 같은 팀의 성공한 커밋으로만 생기므로, 재시도 한도 안에서 정원이 모두 찬다
+        assertThat(playerCount).isEqualTo(CAPACITY);
+        assertThat(succeeded.get()).isEqualTo(CAPACITY);
+        assertThat(matchParticipantRepository.countByMatchId(match.getId())).isEqualTo(CAPACITY);
+        assertThat(managerAssigned.get()).isEqualTo(1);
+        assertThat(result.getManager()).isNotNull();
+        assertThat(result.getStatus()).isEqualTo(MatchStatus.RESERVED);
+    }
+
+    private void runAs(Long memberId, String role, CountDownLatch start,
+                       AtomicInteger succeeded, AtomicInteger rejected, AtomicInteger unexpected, Runnable action) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(memberId, null, List.of(new SimpleGrantedAuthority(role))));
+        try {
+            start.await();
+            action.run();
+            succeeded.incrementAndGet();
+        } catch (BaseException e) {
+            // 정원 초과, 매니저 중복, 재시도 초과 등 정상적인 거절
+            rejected.incrementAndGet();
+        } catch (Exception e) {
+            log.error("[MatchConcurrencyStressTest] 예상하지 못한 예외", e);
+            unexpected.incrementAndGet();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}